@@ -0,0 +1,48 @@
+package su.nightexpress.excellentenchants.api;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Symmetric enchantment conflict table indexed by server registry ids.
+ * Built by the plugin once enchantments are registered and read by server enchantment implementations.
+ */
+public class ConflictMatrix {
+
+    private static volatile ConflictMatrix current;
+
+    private final long[][] rows;
+
+    public ConflictMatrix(int size) {
+        this.rows = new long[size][(size + 63) >> 6];
+    }
+
+    @Nullable
+    public static ConflictMatrix get() {
+        return current;
+    }
+
+    public static void set(@Nullable ConflictMatrix matrix) {
+        current = matrix;
+    }
+
+    public static void clear() {
+        current = null;
+    }
+
+    public int size() {
+        return this.rows.length;
+    }
+
+    public boolean contains(int id) {
+        return id >= 0 && id < this.rows.length;
+    }
+
+    public void setConflict(int first, int second) {
+        this.rows[first][second >> 6] |= 1L << second;
+        this.rows[second][first >> 6] |= 1L << first;
+    }
+
+    public boolean isConflicting(int first, int second) {
+        return (this.rows[first][second >> 6] & (1L << second)) != 0L;
+    }
+}
@@ -0,0 +1,129 @@
+package su.nightexpress.excellentenchants.api;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Source of randomness for enchantment distribution and trigger rolls.
+ * Thread-local generators are used by default, so parallel rolls never compete for the same generator.
+ * When seed is set, generators created for a world and rolls made on the main thread without world context (trigger
+ * chances, levels, loot) produce the same sequence for the same order of rolls. Rolls off the main thread are never seeded.
+ */
+public class EnchantRandom {
+
+    private static final Map<UUID, SplittableRandom> WORLD_ROOTS = new ConcurrentHashMap<>();
+
+    private static volatile SplittableRandom root;
+    private static volatile SplittableRandom mainRandom; // Used by the main thread only.
+    private static volatile Random           mainRandomWrapper;
+    private static volatile long             seed;
+
+    public static void setSeed(long newSeed) {
+        SplittableRandom random = new SplittableRandom(newSeed);
+        seed = newSeed;
+        mainRandom = random.split();
+        mainRandomWrapper = Random.from(mainRandom);
+        root = random;
+        WORLD_ROOTS.clear();
+    }
+
+    public static void clearSeed() {
+        root = null;
+        mainRandom = null;
+        mainRandomWrapper = null;
+        WORLD_ROOTS.clear();
+    }
+
+    public static boolean isSeeded() {
+        return root != null;
+    }
+
+    /**
+     * @return Seeded generator when seed is set and called on the main thread, otherwise generator of the current thread.
+     * Must not be shared between threads.
+     */
+    @NotNull
+    public static RandomGenerator get() {
+        SplittableRandom random = mainRandom;
+        if (random != null && Bukkit.isPrimaryThread()) return random;
+
+        return ThreadLocalRandom.current();
+    }
+
+    /**
+     * Same as {@link #get()}, for APIs that accept {@link Random} only.
+     */
+    @NotNull
+    public static Random getRandom() {
+        Random random = mainRandomWrapper;
+        if (random != null && Bukkit.isPrimaryThread()) return random;
+
+        return ThreadLocalRandom.current();
+    }
+
+    /**
+     * Creates generator for a single event, e.g. one population. Seeded generators are split from the world root,
+     * so results in one world do not depend on rolls in other worlds.
+     */
+    @NotNull
+    public static RandomGenerator create(@Nullable World world) {
+        SplittableRandom parent = root;
+        if (parent == null) return ThreadLocalRandom.current();
+
+        if (world != null) {
+            parent = WORLD_ROOTS.computeIfAbsent(world.getUID(), k -> new SplittableRandom(seed ^ world.getSeed()));
+        }
+
+        // Split is not thread-safe.
+        synchronized (parent) {
+            return parent.split();
+        }
+    }
+
+    /**
+     * @param chance Chance in percents.
+     */
+    public static boolean chance(double chance) {
+        return chance(get(), chance);
+    }
+
+    public static boolean chance(@NotNull RandomGenerator random, double chance) {
+        return chance >= 100D || (chance > 0D && random.nextDouble() * 100D < chance);
+    }
+
+    /**
+     * @return Random number between min and max, both inclusive.
+     */
+    public static int nextInt(@NotNull RandomGenerator random, int min, int max) {
+        if (max <= min) return min;
+
+        return random.nextInt(min, max + 1);
+    }
+
+    /**
+     * Picks by iteration order, so collections with stable order should be used for reproducible results.
+     * @return Random element of the collection, or null if it's empty.
+     */
+    @Nullable
+    public static <T> T get(@NotNull RandomGenerator random, @NotNull Collection<T> collection) {
+        if (collection.isEmpty()) return null;
+
+        Iterator<T> iterator = collection.iterator();
+        for (int index = random.nextInt(collection.size()); index > 0; index--) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+}
@@ -7,12 +7,20 @@ import su.nightexpress.nightcore.util.StringUtil;
 
 public class Modifier {
 
+    /**
+     * Amount of levels precomputed for modifiers that are not bound to an enchantment.
+     */
+    private static final int DEFAULT_TABLE_LEVEL = 10;
+
     private double base;
     private double perLevel;
     private double step;
     private double cap;
     private ModifierAction action;
 
+    private int               tableLevel = DEFAULT_TABLE_LEVEL;
+    private volatile double[] table;
+
     public Modifier(double base, double perLevel, double step, double cap, @NotNull ModifierAction action) {
         this.setBase(base);
         this.setPerLevel(perLevel);
@@ -86,7 +94,40 @@ public class Modifier {
         cfg.set(path + ".Action", this.getAction().name());
     }
 
+    /**
+     * Sets max. level of the enchantment this modifier belongs to, so values are precomputed for all its levels.
+     */
+    @NotNull
+    public Modifier bind(int maxLevel) {
+        this.tableLevel = Math.max(0, maxLevel);
+        this.table = null;
+        return this;
+    }
+
+    /**
+     * @return Value from the precomputed table, or calculated one for levels out of the table.
+     */
     public double getValue(int level) {
+        double[] table = this.table;
+        if (table == null) {
+            table = this.createTable();
+            this.table = table;
+        }
+
+        if (level >= 0 && level < table.length) return table[level];
+
+        return this.calculate(level);
+    }
+
+    private double[] createTable() {
+        double[] table = new double[this.tableLevel + 1];
+        for (int level = 0; level < table.length; level++) {
+            table[level] = this.calculate(level);
+        }
+        return table;
+    }
+
+    public double calculate(int level) {
         if (/*level == 1 || */this.perLevel == 0D) return this.capValue(this.getBase());
 
         //level -= 1;
@@ -111,6 +152,7 @@ public class Modifier {
 
     public void setBase(double base) {
         this.base = base;
+        this.table = null;
     }
 
     public double getPerLevel() {
@@ -119,6 +161,7 @@ public class Modifier {
 
     public void setPerLevel(double perLevel) {
         this.perLevel = perLevel;
+        this.table = null;
     }
 
     public double getStep() {
@@ -127,6 +170,7 @@ public class Modifier {
 
     public void setStep(double step) {
         this.step = step;
+        this.table = null;
     }
 
     public double getCap() {
@@ -135,6 +179,7 @@ public class Modifier {
 
     public void setCap(double cap) {
         this.cap = cap;
+        this.table = null;
     }
 
     @NotNull
@@ -144,5 +189,6 @@ public class Modifier {
 
     public void setAction(@NotNull ModifierAction action) {
         this.action = action;
+        this.table = null;
     }
 }
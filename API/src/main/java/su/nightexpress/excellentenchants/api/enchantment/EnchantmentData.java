@@ -1,5 +1,6 @@
 package su.nightexpress.excellentenchants.api.enchantment;
 
+import org.bukkit.NamespacedKey;
 import org.bukkit.World;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.enchantments.EnchantmentTarget;
@@ -63,6 +64,13 @@ public interface EnchantmentData {
 
     @NotNull String getNameFormatted(int level, int charges);
 
+    /**
+     * @param chargesFormat Formatted charges component (see {@link #getChargesFormatted(int, int)}), or null to hide charges.
+     */
+    @NotNull String getNameFormatted(int level, @Nullable String chargesFormat);
+
+    @NotNull String getChargesFormatted(int level, int charges);
+
     @NotNull List<String> getDescription();
 
     @NotNull List<String> getDescriptionFormatted();
@@ -75,6 +83,10 @@ public interface EnchantmentData {
 
     void setEnchantment(@NotNull Enchantment enchantment);
 
+    int getOrdinal();
+
+    void setOrdinal(int ordinal);
+
     ItemCategory[] getItemCategories();
 
     EquipmentSlot[] getSlots();
@@ -120,8 +132,15 @@ public interface EnchantmentData {
 
     int getCharges(@NotNull ItemMeta meta);
 
+    /**
+     * @return Key of the item data where enchantment charges are stored.
+     */
+    @NotNull NamespacedKey getChargesKey();
+
     void setCharges(@NotNull ItemStack item, int level, int amount);
 
+    void setCharges(@NotNull ItemMeta meta, int level, int amount);
+
     boolean isFullOfCharges(@NotNull ItemStack item);
 
     boolean isOutOfCharges(@NotNull ItemStack item);
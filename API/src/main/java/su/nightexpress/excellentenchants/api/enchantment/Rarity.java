@@ -1,10 +1,9 @@
 package su.nightexpress.excellentenchants.api.enchantment;
 
 import org.jetbrains.annotations.NotNull;
-import su.nightexpress.nightcore.util.random.Rnd;
+import su.nightexpress.excellentenchants.api.EnchantRandom;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.random.RandomGenerator;
 
 public enum Rarity {
 
@@ -29,12 +28,23 @@ public enum Rarity {
 
     @NotNull
     public static Rarity getByWeight() {
-        Map<Rarity, Double> map = new HashMap<>();
+        return getByWeight(EnchantRandom.get());
+    }
 
-        for (Rarity rarity : Rarity.values()) {
-            map.put(rarity, (double) rarity.getWeight());
+    @NotNull
+    public static Rarity getByWeight(@NotNull RandomGenerator random) {
+        Rarity[] values = Rarity.values();
+        int total = 0;
+        for (Rarity rarity : values) {
+            total += Math.max(0, rarity.getWeight());
         }
+        if (total <= 0) return values[random.nextInt(values.length)];
 
-        return Rnd.getByWeight(map);
+        int roll = random.nextInt(total);
+        for (Rarity rarity : values) {
+            roll -= Math.max(0, rarity.getWeight());
+            if (roll < 0) return rarity;
+        }
+        return values[values.length - 1];
     }
 }
@@ -0,0 +1,147 @@
+package su.nightexpress.excellentenchants.benchmark;
+
+import io.papermc.paper.enchantments.EnchantmentRarity;
+import net.kyori.adventure.text.Component;
+import org.bukkit.NamespacedKey;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.enchantments.EnchantmentTarget;
+import org.bukkit.entity.EntityCategory;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+
+import java.util.Set;
+
+/**
+ * Bukkit side of a custom enchantment for the mocked server, mirrors the checks done by the NMS CustomEnchantment.
+ */
+public class BenchmarkEnchantment extends Enchantment {
+
+    private final EnchantmentData data;
+    private final NamespacedKey   key;
+
+    public BenchmarkEnchantment(@NotNull EnchantmentData data) {
+        this.data = data;
+        this.key = NamespacedKey.minecraft(data.getId());
+    }
+
+    @NotNull
+    public EnchantmentData getData() {
+        return data;
+    }
+
+    @Override
+    @NotNull
+    public NamespacedKey getKey() {
+        return this.key;
+    }
+
+    @Override
+    @NotNull
+    public String getName() {
+        return this.data.getId().toUpperCase();
+    }
+
+    @Override
+    public int getMaxLevel() {
+        return this.data.getMaxLevel();
+    }
+
+    @Override
+    public int getStartLevel() {
+        return 1;
+    }
+
+    @Override
+    @NotNull
+    public EnchantmentTarget getItemTarget() {
+        return this.data.getCategory();
+    }
+
+    @Override
+    public boolean isTreasure() {
+        return this.data.isTreasure();
+    }
+
+    @Override
+    public boolean isCursed() {
+        return this.data.isCurse();
+    }
+
+    @Override
+    public boolean conflictsWith(@NotNull Enchantment other) {
+        return this.data.getConflicts().contains(other.getKey().getKey());
+    }
+
+    @Override
+    public boolean canEnchantItem(@NotNull ItemStack item) {
+        if (!this.data.checkEnchantLimit(item)) return false;
+
+        if (!this.data.hasItemCategory()) {
+            if (this.data.checkEnchantCategory(item)) return true;
+        }
+
+        return this.data.checkItemCategory(item);
+    }
+
+    @Override
+    @NotNull
+    public Component displayName(int level) {
+        return Component.text(this.data.getName());
+    }
+
+    @Override
+    public boolean isTradeable() {
+        return false;
+    }
+
+    @Override
+    public boolean isDiscoverable() {
+        return false;
+    }
+
+    @Override
+    public int getMinModifiedCost(int level) {
+        return this.data.getMinCost(level);
+    }
+
+    @Override
+    public int getMaxModifiedCost(int level) {
+        return this.data.getMaxCost(level);
+    }
+
+    @Override
+    @NotNull
+    public EnchantmentRarity getRarity() {
+        return switch (this.data.getRarity()) {
+            case COMMON -> EnchantmentRarity.COMMON;
+            case UNCOMMON -> EnchantmentRarity.UNCOMMON;
+            case RARE -> EnchantmentRarity.RARE;
+            case VERY_RARE -> EnchantmentRarity.VERY_RARE;
+        };
+    }
+
+    @Override
+    public float getDamageIncrease(int level, @NotNull EntityCategory entityCategory) {
+        return 0F;
+    }
+
+    @Override
+    @NotNull
+    public Set<EquipmentSlot> getActiveSlots() {
+        return Set.of();
+    }
+
+    @Override
+    @NotNull
+    public String translationKey() {
+        return this.getTranslationKey();
+    }
+
+    @Override
+    @NotNull
+    public String getTranslationKey() {
+        return "enchantment.minecraft." + this.data.getId();
+    }
+}
@@ -0,0 +1,29 @@
+package su.nightexpress.excellentenchants.benchmark;
+
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.Placeholders;
+import su.nightexpress.excellentenchants.api.DistributionMode;
+import su.nightexpress.excellentenchants.config.Config;
+import su.nightexpress.excellentenchants.nms.EnchantNMS;
+
+import java.util.Map;
+import java.util.Set;
+
+public class BenchmarkPlugin extends EnchantsPlugin {
+
+    @Override
+    public void enable() {
+        // Custom distribution is the only one that does not need a real server registry.
+        Config.DISTRIBUTION_MODE.set(DistributionMode.CUSTOM);
+        Config.ENCHANTMENTS_DISABLED_IN_WORLDS.set(Map.of(BenchmarkServer.DISABLED_WORLD, Set.of(Placeholders.WILDCARD)));
+
+        super.enable();
+    }
+
+    @Override
+    @NotNull
+    protected EnchantNMS createNMS() {
+        return new MockEnchantNMS();
+    }
+}
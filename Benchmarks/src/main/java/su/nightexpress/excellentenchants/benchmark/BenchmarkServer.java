@@ -0,0 +1,101 @@
+package su.nightexpress.excellentenchants.benchmark;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Material;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+import su.nightexpress.excellentenchants.enchantment.registry.EnchantRegistry;
+import su.nightexpress.excellentenchants.enchantment.util.EnchantUtils;
+import su.nightexpress.nightcore.NightCore;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Headless server shared by the benchmarks of a single JMH fork.
+ */
+public class BenchmarkServer {
+
+    public static final String WORLD          = "world";
+    public static final String DISABLED_WORLD = "world_disabled";
+
+    private static ServerMock     server;
+    private static EnchantsPlugin plugin;
+
+    @NotNull
+    public static synchronized EnchantsPlugin start() {
+        if (plugin != null) return plugin;
+
+        server = MockBukkit.mock();
+        server.addSimpleWorld(WORLD);
+        server.addSimpleWorld(DISABLED_WORLD);
+
+        PluginDescriptionFile coreDescription = new PluginDescriptionFile("nightcore", "2.6.1", NightCore.class.getName());
+        MockBukkit.loadWith(NightCore.class, coreDescription);
+
+        PluginDescriptionFile description = new PluginDescriptionFile("ExcellentEnchants", "benchmark", BenchmarkPlugin.class.getName());
+        plugin = MockBukkit.loadWith(BenchmarkPlugin.class, description);
+        return plugin;
+    }
+
+    public static synchronized void stop() {
+        if (plugin == null) return;
+
+        MockBukkit.unmock();
+        server = null;
+        plugin = null;
+    }
+
+    @NotNull
+    public static ServerMock getServer() {
+        return server;
+    }
+
+    @NotNull
+    public static PlayerMock createPlayer(@NotNull String worldName) {
+        PlayerMock player = server.addPlayer();
+        player.teleport(server.getWorld(worldName).getSpawnLocation());
+        return player;
+    }
+
+    /**
+     * Puts an enchanted item into every equipment slot of the player.
+     */
+    public static void equip(@NotNull PlayerMock player, int enchants) {
+        EntityEquipment equipment = player.getEquipment();
+        equipment.setItem(EquipmentSlot.HAND, enchant(new ItemStack(Material.DIAMOND_SWORD), enchants));
+        equipment.setItem(EquipmentSlot.OFF_HAND, enchant(new ItemStack(Material.SHIELD), enchants));
+        equipment.setItem(EquipmentSlot.HEAD, enchant(new ItemStack(Material.DIAMOND_HELMET), enchants));
+        equipment.setItem(EquipmentSlot.CHEST, enchant(new ItemStack(Material.DIAMOND_CHESTPLATE), enchants));
+        equipment.setItem(EquipmentSlot.LEGS, enchant(new ItemStack(Material.DIAMOND_LEGGINGS), enchants));
+        equipment.setItem(EquipmentSlot.FEET, enchant(new ItemStack(Material.DIAMOND_BOOTS), enchants));
+    }
+
+    /**
+     * Adds up to the given amount of applicable custom enchantments, always in the same order.
+     */
+    @NotNull
+    public static ItemStack enchant(@NotNull ItemStack item, int amount) {
+        List<EnchantmentData> enchants = EnchantRegistry.getRegistered().stream()
+            .sorted(Comparator.comparing(EnchantmentData::getId))
+            .toList();
+
+        int added = 0;
+        for (EnchantmentData data : enchants) {
+            if (added >= amount) break;
+            if (!data.getEnchantment().canEnchantItem(item)) continue;
+
+            if (EnchantUtils.add(item, data.getEnchantment(), data.getMaxLevel(), true)) {
+                added++;
+            }
+        }
+        return item;
+    }
+}
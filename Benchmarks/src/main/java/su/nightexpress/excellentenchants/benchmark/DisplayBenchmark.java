@@ -0,0 +1,58 @@
+package su.nightexpress.excellentenchants.benchmark;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+import su.nightexpress.excellentenchants.enchantment.util.EnchantUtils;
+import su.nightexpress.excellentenchants.hook.impl.ProtocolHook;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DisplayBenchmark {
+
+    @Param({"1", "3", "6"})
+    public int enchants;
+
+    @Param({"DIAMOND_SWORD", "ENCHANTED_BOOK"})
+    public Material material;
+
+    private ItemStack item;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkServer.start();
+        this.item = BenchmarkServer.enchant(new ItemStack(this.material), this.enchants);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    /**
+     * Plain lore mode. The item is rewritten in place, so every call after the first one replaces the same lines.
+     */
+    @Benchmark
+    public boolean updateDisplay() {
+        return EnchantUtils.updateDisplay(this.item);
+    }
+
+    /**
+     * Packet mode. Called for every item of every outgoing window/slot packet.
+     */
+    @Benchmark
+    public ItemStack packetUpdate() {
+        return ProtocolHook.update(this.item, false);
+    }
+
+    @Benchmark
+    public ItemStack packetUpdateCreative() {
+        return ProtocolHook.update(this.item, true);
+    }
+}
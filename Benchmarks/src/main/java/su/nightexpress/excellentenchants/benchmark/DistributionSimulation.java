@@ -0,0 +1,56 @@
+package su.nightexpress.excellentenchants.benchmark;
+
+import org.bukkit.Material;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.api.DistributionWay;
+import su.nightexpress.excellentenchants.enchantment.DistributionSimulator;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Headless distribution simulation on the benchmark server, with default configs.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar su.nightexpress.excellentenchants.benchmark.DistributionSimulation <way> <material> <runs> [seed]}
+ */
+public class DistributionSimulation {
+
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.out.println("Usage: <way> <material> <runs> [seed]");
+            return;
+        }
+
+        DistributionWay way = DistributionWay.valueOf(args[0].toUpperCase(Locale.ROOT));
+        Material material = Material.valueOf(args[1].toUpperCase(Locale.ROOT));
+        int runs = Integer.parseInt(args[2]);
+
+        EnchantsPlugin plugin = BenchmarkServer.start();
+        try {
+            // Nothing else runs on the benchmark server, so the thread limit is not needed.
+            DistributionSimulator simulator = new DistributionSimulator(plugin, way, material)
+                .withParallelism(Runtime.getRuntime().availableProcessors());
+            if (args.length >= 4) {
+                simulator.withSeed(Long.parseLong(args[3]));
+            }
+
+            DistributionSimulator.Result result = simulator.run(runs);
+            System.out.printf(Locale.ROOT, "%,d populations of %s via %s in %d ms: %.2f%% items enchanted, %.3f enchantments per item%n",
+                result.runs(), material, way, TimeUnit.NANOSECONDS.toMillis(result.nanos()),
+                result.getEnchantedRate() * 100D, result.getEnchantsPerItem());
+
+            result.entries().forEach(entry -> {
+                StringBuilder levels = new StringBuilder();
+                for (int level = 1; level < entry.levels().length; level++) {
+                    if (entry.levels()[level] == 0L) continue;
+
+                    levels.append(String.format(Locale.ROOT, " %d:%.1f%%", level, (double) entry.levels()[level] / entry.count() * 100D));
+                }
+                System.out.printf(Locale.ROOT, "  %-28s %8.3f%%%s%n", entry.enchantment().getKey().getKey(), result.getRate(entry) * 100D, levels);
+            });
+        }
+        finally {
+            BenchmarkServer.stop();
+        }
+    }
+}
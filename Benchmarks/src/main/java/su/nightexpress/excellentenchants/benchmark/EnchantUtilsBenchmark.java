@@ -0,0 +1,74 @@
+package su.nightexpress.excellentenchants.benchmark;
+
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+import su.nightexpress.excellentenchants.api.enchantment.type.CombatEnchant;
+import su.nightexpress.excellentenchants.enchantment.util.EnchantUtils;
+import su.nightexpress.excellentenchants.enchantment.util.EquipmentSnapshot;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnchantUtilsBenchmark {
+
+    @Param({"1", "3", "6"})
+    public int enchants;
+
+    private PlayerMock player;
+    private ItemStack  item;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkServer.start();
+        this.player = BenchmarkServer.createPlayer(BenchmarkServer.WORLD);
+        BenchmarkServer.equip(this.player, this.enchants);
+        this.item = this.player.getEquipment().getItemInMainHand();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    @Benchmark
+    public Map<EnchantmentData, Integer> getCustomEnchantments() {
+        return EnchantUtils.getCustomEnchantments(this.item);
+    }
+
+    @Benchmark
+    public Map<CombatEnchant, Integer> getCustomEnchantmentsByType() {
+        return EnchantUtils.getCustomEnchantments(this.item, CombatEnchant.class);
+    }
+
+    @Benchmark
+    public Map<ItemStack, Map<CombatEnchant, Integer>> getEquipped() {
+        return EnchantUtils.getEquipped(this.player, CombatEnchant.class);
+    }
+
+    /**
+     * Snapshot lookup as done by the wrapped event listeners, hitting the per-entity cache.
+     */
+    @Benchmark
+    public Map<ItemStack, Map<CombatEnchant, Integer>> getEquippedCached() {
+        EquipmentSnapshot snapshot = EnchantUtils.getEquipmentSnapshot(this.player);
+        return snapshot.getEnchants(CombatEnchant.class, EnchantUtils.EQUIPMENT_SLOTS);
+    }
+
+    /**
+     * Same as above, but with the snapshot rebuilt on every call (e.g. after inventory click).
+     */
+    @Benchmark
+    public Map<ItemStack, Map<CombatEnchant, Integer>> getEquippedInvalidated() {
+        EnchantUtils.invalidateEquipment(this.player);
+        EquipmentSnapshot snapshot = EnchantUtils.getEquipmentSnapshot(this.player);
+        return snapshot.getEnchants(CombatEnchant.class, EnchantUtils.EQUIPMENT_SLOTS);
+    }
+}
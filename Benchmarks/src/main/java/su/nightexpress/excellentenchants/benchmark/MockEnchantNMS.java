@@ -0,0 +1,112 @@
+package su.nightexpress.excellentenchants.benchmark;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.FishHook;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+import su.nightexpress.excellentenchants.nms.EnchantNMS;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Server-less NMS implementation. Enchantments are registered as plain Bukkit objects,
+ * item enchantments are always read from ItemMeta.
+ */
+public class MockEnchantNMS implements EnchantNMS {
+
+    private final Map<Enchantment, Integer> ids = new IdentityHashMap<>();
+
+    @Override
+    public void unfreezeRegistry() {
+
+    }
+
+    @Override
+    public void freezeRegistry() {
+
+    }
+
+    @Override
+    public void registerEnchantment(@NotNull EnchantmentData data) {
+        data.setEnchantment(new BenchmarkEnchantment(data));
+    }
+
+    @Override
+    public void sendAttackPacket(@NotNull Player player, int id) {
+
+    }
+
+    @Override
+    public void retrieveHook(@NotNull FishHook hook, @NotNull ItemStack item, @NotNull EquipmentSlot slot) {
+
+    }
+
+    @Override
+    public boolean canReadItems() {
+        return false;
+    }
+
+    @Override
+    @Nullable
+    public Map<Enchantment, Integer> getEnchantments(@NotNull ItemStack item) {
+        return null;
+    }
+
+    @Override
+    public boolean readEnchantments(@NotNull ItemStack item, @NotNull ObjIntConsumer<Enchantment> consumer) {
+        return false;
+    }
+
+    @Override
+    public int getEnchantmentId(@NotNull Enchantment enchantment) {
+        return this.ids.computeIfAbsent(enchantment, k -> this.ids.size());
+    }
+
+    @Override
+    public int getItemHash(@NotNull ItemStack item) {
+        return item.hashCode();
+    }
+
+    @Override
+    public boolean isSameItem(@NotNull ItemStack item, @NotNull ItemStack other) {
+        return item.equals(other);
+    }
+
+    @Override
+    @NotNull
+    public Map<Integer, Map<Enchantment, Integer>> getEnchantLists(@NotNull Inventory inventory, @NotNull ItemStack bukkitItem) {
+        return new HashMap<>();
+    }
+
+    @Override
+    @NotNull
+    public Material getItemBlockVariant(@NotNull Material material) {
+        return material;
+    }
+
+    @Override
+    @NotNull
+    public Set<Block> handleFlameWalker(@NotNull LivingEntity entity, @NotNull Location location, int level) {
+        return Set.of();
+    }
+
+    @Override
+    @NotNull
+    public Item popResource(@NotNull Block block, @NotNull ItemStack item) {
+        return block.getWorld().dropItem(block.getLocation(), item);
+    }
+}
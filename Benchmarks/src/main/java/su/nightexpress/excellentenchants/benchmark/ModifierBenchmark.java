@@ -0,0 +1,70 @@
+package su.nightexpress.excellentenchants.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import su.nightexpress.excellentenchants.api.Modifier;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Does not need a server, modifiers are plain API objects.
+ * Compares table lookups of bound modifiers with the raw calculation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModifierBenchmark {
+
+    @Param({"5"})
+    public int maxLevel;
+
+    private Modifier added;
+    private Modifier multiplied;
+    private Modifier capped;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.added = Modifier.add(4, 1, 1);
+        this.multiplied = Modifier.multiply(1.5, 0.25, 2);
+        this.capped = Modifier.add(10, 7.5, 1, 30);
+
+        this.added.bind(this.maxLevel);
+        this.multiplied.bind(this.maxLevel);
+        this.capped.bind(this.maxLevel);
+    }
+
+    @Benchmark
+    public void calculate(Blackhole blackhole) {
+        for (int level = 1; level <= this.maxLevel; level++) {
+            blackhole.consume(this.added.calculate(level));
+            blackhole.consume(this.multiplied.calculate(level));
+            blackhole.consume(this.capped.calculate(level));
+        }
+    }
+
+    @Benchmark
+    public void getValue(Blackhole blackhole) {
+        for (int level = 1; level <= this.maxLevel; level++) {
+            blackhole.consume(this.added.getValue(level));
+            blackhole.consume(this.multiplied.getValue(level));
+            blackhole.consume(this.capped.getValue(level));
+        }
+    }
+
+    @Benchmark
+    public void getIntValue(Blackhole blackhole) {
+        for (int level = 1; level <= this.maxLevel; level++) {
+            blackhole.consume(this.added.getIntValue(level));
+        }
+    }
+
+    @Benchmark
+    public void getValueOutOfTable(Blackhole blackhole) {
+        for (int level = 1; level <= this.maxLevel; level++) {
+            blackhole.consume(this.capped.getValue(this.maxLevel + level));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package su.nightexpress.excellentenchants.benchmark;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.api.DistributionWay;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PopulatorBenchmark {
+
+    @Param({"ENCHANTING", "LOOT_GENERATION", "MOB_EQUIPMENT"})
+    public DistributionWay way;
+
+    @Param({"DIAMOND_SWORD", "BOOK"})
+    public Material material;
+
+    private EnchantsPlugin plugin;
+    private World          world;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.plugin = BenchmarkServer.start();
+        this.world = BenchmarkServer.getServer().getWorld(BenchmarkServer.WORLD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    @Benchmark
+    public Map<Enchantment, Integer> createPopulation() {
+        return this.plugin.createPopulator(new ItemStack(this.material), this.way).withWorld(this.world).createPopulation();
+    }
+}
@@ -0,0 +1,61 @@
+package su.nightexpress.excellentenchants.benchmark;
+
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.entity.Zombie;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.plugin.PluginManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures overhead of the wrapped enchantment listeners: enchantment lookup, priority dispatch and charges checks.
+ * Entities are placed in a world where all enchantments are disabled, so enchantment effects themselves
+ * (particles, potions, block changes, etc.) are not executed and do not depend on the mocked server implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WrappedEventBenchmark {
+
+    @Param({"0", "3", "6"})
+    public int enchants;
+
+    private PluginManager pluginManager;
+    private PlayerMock    player;
+    private Zombie        zombie;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkServer.start();
+        this.pluginManager = BenchmarkServer.getServer().getPluginManager();
+        this.player = BenchmarkServer.createPlayer(BenchmarkServer.DISABLED_WORLD);
+        BenchmarkServer.equip(this.player, this.enchants);
+        this.zombie = this.player.getWorld().spawn(this.player.getLocation(), Zombie.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    @SuppressWarnings("deprecation")
+    @Benchmark
+    public EntityDamageByEntityEvent playerAttack() {
+        EntityDamageByEntityEvent event = new EntityDamageByEntityEvent(this.player, this.zombie, EntityDamageEvent.DamageCause.ENTITY_ATTACK, 5D);
+        this.pluginManager.callEvent(event);
+        return event;
+    }
+
+    @SuppressWarnings("deprecation")
+    @Benchmark
+    public EntityDamageByEntityEvent playerDefense() {
+        EntityDamageByEntityEvent event = new EntityDamageByEntityEvent(this.zombie, this.player, EntityDamageEvent.DamageCause.ENTITY_ATTACK, 5D);
+        this.pluginManager.callEvent(event);
+        return event;
+    }
+}
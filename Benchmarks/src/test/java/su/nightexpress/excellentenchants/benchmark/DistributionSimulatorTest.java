@@ -0,0 +1,64 @@
+package su.nightexpress.excellentenchants.benchmark;
+
+import org.bukkit.Material;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.api.DistributionWay;
+import su.nightexpress.excellentenchants.enchantment.DistributionSimulator;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DistributionSimulatorTest {
+
+    private static final long SEED = 1337L;
+    private static final int  RUNS = 50_000; // Several chunks, so split tasks are covered.
+
+    private static EnchantsPlugin plugin;
+
+    @BeforeAll
+    public static void setUp() {
+        plugin = BenchmarkServer.start();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    @Test
+    public void sameSeedGivesSameResult() {
+        DistributionSimulator.Result first = simulate(1);
+        DistributionSimulator.Result second = simulate(Runtime.getRuntime().availableProcessors());
+
+        assertTrue(first.enchanted() > 0, "Nothing was enchanted, check distribution settings.");
+        assertEquals(first.enchanted(), second.enchanted());
+        assertEquals(first.enchants(), second.enchants());
+        assertEquals(toTally(first), toTally(second));
+    }
+
+    @NotNull
+    private static DistributionSimulator.Result simulate(int parallelism) {
+        return new DistributionSimulator(plugin, DistributionWay.ENCHANTING, Material.DIAMOND_SWORD)
+            .withSeed(SEED)
+            .withParallelism(parallelism)
+            .run(RUNS);
+    }
+
+    @NotNull
+    private static Map<String, List<Long>> toTally(@NotNull DistributionSimulator.Result result) {
+        Map<String, List<Long>> tally = new HashMap<>();
+        result.entries().forEach(entry -> {
+            tally.put(entry.enchantment().getKey().toString(), Arrays.stream(entry.levels()).boxed().toList());
+        });
+        return tally;
+    }
+}
@@ -0,0 +1,42 @@
+package su.nightexpress.excellentenchants.benchmark;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+import su.nightexpress.excellentenchants.enchantment.registry.EnchantRegistry;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EnchantRegistryTest {
+
+    private static EnchantsPlugin plugin;
+
+    @BeforeAll
+    public static void setUp() {
+        plugin = BenchmarkServer.start();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    @Test
+    public void parallelAndSequentialLoadingGiveSameEnchantments() {
+        Set<String> registered = EnchantRegistry.getRegistered().stream().map(EnchantmentData::getId).collect(Collectors.toSet());
+        assertFalse(registered.isEmpty());
+
+        Set<String> parallel = plugin.getRegistry().loadDetached(true);
+        Set<String> sequential = plugin.getRegistry().loadDetached(false);
+
+        assertEquals(sequential, parallel);
+        assertTrue(parallel.containsAll(registered), "Registered enchantments must load in both modes.");
+    }
+}
@@ -5,8 +5,10 @@ import org.bukkit.entity.Item;
 import org.bukkit.event.block.BlockDropItemEvent;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import su.nightexpress.excellentenchants.api.enchantment.ItemCategory;
 import su.nightexpress.excellentenchants.api.DistributionWay;
+import su.nightexpress.excellentenchants.api.EnchantRandom;
 import su.nightexpress.excellentenchants.api.enchantment.Rarity;
 import su.nightexpress.excellentenchants.command.*;
 import su.nightexpress.excellentenchants.config.Config;
@@ -16,6 +18,7 @@ import su.nightexpress.excellentenchants.config.Perms;
 import su.nightexpress.excellentenchants.enchantment.EnchantManager;
 import su.nightexpress.excellentenchants.enchantment.EnchantPopulator;
 import su.nightexpress.excellentenchants.enchantment.registry.EnchantRegistry;
+import su.nightexpress.excellentenchants.enchantment.util.EnchantUtils;
 import su.nightexpress.excellentenchants.hook.HookPlugin;
 import su.nightexpress.excellentenchants.hook.impl.PlaceholderHook;
 import su.nightexpress.excellentenchants.hook.impl.ProtocolHook;
@@ -26,7 +29,6 @@ import su.nightexpress.excellentenchants.nms.v1_20_R2.V1_20_R2;
 import su.nightexpress.excellentenchants.nms.v1_20_R3.V1_20_R3;
 import su.nightexpress.nightcore.NightPlugin;
 import su.nightexpress.nightcore.command.api.NightPluginCommand;
-import su.nightexpress.nightcore.command.base.ReloadSubCommand;
 import su.nightexpress.nightcore.config.PluginDetails;
 import su.nightexpress.nightcore.util.Plugins;
 import su.nightexpress.nightcore.util.Version;
@@ -59,6 +61,10 @@ public class EnchantsPlugin extends NightPlugin {
             this.getPluginManager().disablePlugin(this);
             return;
         }
+        EnchantUtils.setEnchantNMS(this.enchantNMS);
+        if (!this.enchantNMS.canReadItems()) {
+            this.warn("Could not access server item stacks. Item enchantments will be read through ItemMeta, which is slower.");
+        }
 
         this.getLangManager().loadEnum(ItemCategory.class);
         this.getLangManager().loadEnum(EnchantmentTarget.class);
@@ -68,6 +74,10 @@ public class EnchantsPlugin extends NightPlugin {
         Keys.loadKeys(this);
         Config.loadRarityWeights(this.getConfig());
 
+        long seed = Config.CORE_RANDOM_SEED.get();
+        if (seed >= 0L) EnchantRandom.setSeed(seed);
+        else EnchantRandom.clearSeed();
+
         this.registerCommands();
 
         this.registry.setup();
@@ -105,7 +115,13 @@ public class EnchantsPlugin extends NightPlugin {
     }
 
     private boolean setNMS() {
-        this.enchantNMS = switch (Version.getCurrent()) {
+        this.enchantNMS = this.createNMS();
+        return this.enchantNMS != null;
+    }
+
+    @Nullable
+    protected EnchantNMS createNMS() {
+        return switch (Version.getCurrent()) {
             case V1_19_R3 -> new V1_19_R3();
             case V1_20_R1 -> new V1_20_R1();
             case V1_20_R2 -> new V1_20_R2();
@@ -113,7 +129,6 @@ public class EnchantsPlugin extends NightPlugin {
             case MC_1_20_6 -> new Internal1_20_6();
             default -> null;
         };
-        return this.enchantNMS != null;
     }
 
     private void registerCommands() {
@@ -122,7 +137,9 @@ public class EnchantsPlugin extends NightPlugin {
         mainCommand.addChildren(new EnchantCommand(this));
         mainCommand.addChildren(new ListCommand(this));
         mainCommand.addChildren(new RarityBookCommand(this));
-        mainCommand.addChildren(new ReloadSubCommand(this, Perms.COMMAND_RELOAD));
+        mainCommand.addChildren(new ReloadCommand(this));
+        mainCommand.addChildren(new StatsCommand(this));
+        mainCommand.addChildren(new SimulateCommand(this));
         if (Config.ENCHANTMENTS_CHARGES_ENABLED.get()) {
             mainCommand.addChildren(new GetFuelCommand(this));
         }
@@ -26,6 +26,20 @@ public class Placeholders extends su.nightexpress.nightcore.util.Placeholders {
     public static final String GENERIC_MIN         = "%min%";
     public static final String GENERIC_MAX         = "%max%";
     public static final String GENERIC_TIME        = "%time%";
+    public static final String GENERIC_FILE        = "%file%";
+    public static final String GENERIC_CALLS       = "%calls%";
+    public static final String GENERIC_TRIGGERS    = "%triggers%";
+    public static final String GENERIC_RATE        = "%rate%";
+    public static final String GENERIC_CHARGES     = "%charges%";
+    public static final String GENERIC_TOTAL       = "%total%";
+    public static final String GENERIC_AVERAGE     = "%average%";
+    public static final String GENERIC_PERCENTILE  = "%percentile%";
+    public static final String GENERIC_REQUESTED   = "%requested%";
+    public static final String GENERIC_RENDERED    = "%rendered%";
+    public static final String GENERIC_COALESCED   = "%coalesced%";
+    public static final String GENERIC_PENDING     = "%pending%";
+    public static final String GENERIC_POPULATED   = "%populated%";
+    public static final String GENERIC_SKIPPED     = "%skipped%";
 
     public static final String ENCHANTMENT_CHANCE                        = "%enchantment_trigger_chance%";
     public static final String ENCHANTMENT_INTERVAL                      = "%enchantment_trigger_interval%";
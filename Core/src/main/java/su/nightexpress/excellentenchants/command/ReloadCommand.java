@@ -0,0 +1,61 @@
+package su.nightexpress.excellentenchants.command;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.Placeholders;
+import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+import su.nightexpress.excellentenchants.config.Lang;
+import su.nightexpress.excellentenchants.config.Perms;
+import su.nightexpress.excellentenchants.enchantment.DistributionSimulator;
+import su.nightexpress.excellentenchants.enchantment.registry.EnchantRegistry;
+import su.nightexpress.nightcore.command.CommandResult;
+import su.nightexpress.nightcore.command.impl.AbstractCommand;
+
+import java.util.List;
+
+public class ReloadCommand extends AbstractCommand<EnchantsPlugin> {
+
+    public ReloadCommand(@NotNull EnchantsPlugin plugin) {
+        super(plugin, new String[]{"reload"}, Perms.COMMAND_RELOAD);
+        this.setDescription(Lang.COMMAND_RELOAD_DESC);
+        this.setUsage(Lang.COMMAND_RELOAD_USAGE);
+    }
+
+    @Override
+    @NotNull
+    public List<String> getTab(@NotNull Player player, int arg, @NotNull String[] args) {
+        if (arg == 1) {
+            return EnchantRegistry.getRegistered().stream().map(EnchantmentData::getId).sorted().toList();
+        }
+        return super.getTab(player, arg, args);
+    }
+
+    @Override
+    protected void onExecute(@NotNull CommandSender sender, @NotNull CommandResult result) {
+        if (DistributionSimulator.isRunning()) {
+            Lang.COMMAND_RELOAD_ERROR_SIMULATION.getMessage().send(sender);
+            return;
+        }
+
+        if (result.length() < 2) {
+            this.plugin.reload();
+            Lang.COMMAND_RELOAD_DONE.getMessage().send(sender);
+            return;
+        }
+
+        EnchantmentData data = EnchantRegistry.getById(result.getArg(1));
+        if (data == null) {
+            Lang.ERROR_INVALID_ENCHANT.getMessage().send(sender);
+            return;
+        }
+
+        if (this.plugin.getRegistry().reloadEnchantment(data)) {
+            Lang.COMMAND_RELOAD_ENCHANT_DONE.getMessage().replace(Placeholders.GENERIC_NAME, data.getName()).send(sender);
+        }
+        else {
+            Lang.COMMAND_RELOAD_ENCHANT_ERROR.getMessage().replace(Placeholders.GENERIC_NAME, data.getName()).send(sender);
+        }
+    }
+}
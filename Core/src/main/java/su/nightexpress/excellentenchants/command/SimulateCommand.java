@@ -0,0 +1,127 @@
+package su.nightexpress.excellentenchants.command;
+
+import org.bukkit.Material;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.Placeholders;
+import su.nightexpress.excellentenchants.api.DistributionWay;
+import su.nightexpress.excellentenchants.config.Config;
+import su.nightexpress.excellentenchants.config.Lang;
+import su.nightexpress.excellentenchants.config.Perms;
+import su.nightexpress.excellentenchants.enchantment.DistributionSimulator;
+import su.nightexpress.excellentenchants.enchantment.util.EnchantUtils;
+import su.nightexpress.nightcore.command.CommandResult;
+import su.nightexpress.nightcore.command.impl.AbstractCommand;
+import su.nightexpress.nightcore.util.Lists;
+import su.nightexpress.nightcore.util.NumberUtil;
+import su.nightexpress.nightcore.util.StringUtil;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+public class SimulateCommand extends AbstractCommand<EnchantsPlugin> {
+
+    private static final int TOP_SIZE = 15;
+    private static final int MAX_RUNS = 100_000_000;
+
+    public SimulateCommand(@NotNull EnchantsPlugin plugin) {
+        super(plugin, new String[]{"simulate"}, Perms.COMMAND_SIMULATE);
+        this.setDescription(Lang.COMMAND_SIMULATE_DESC);
+        this.setUsage(Lang.COMMAND_SIMULATE_USAGE);
+    }
+
+    @Override
+    @NotNull
+    public List<String> getTab(@NotNull Player player, int arg, @NotNull String[] args) {
+        if (arg == 1) {
+            return Lists.getEnums(DistributionWay.class);
+        }
+        if (arg == 2) {
+            return Lists.getEnums(Material.class).stream().filter(name -> {
+                Material material = Material.getMaterial(name);
+                return material != null && material.isItem() && !material.isLegacy();
+            }).toList();
+        }
+        if (arg == 3) {
+            return Arrays.asList("100000", "1000000", "10000000");
+        }
+        return super.getTab(player, arg, args);
+    }
+
+    @Override
+    protected void onExecute(@NotNull CommandSender sender, @NotNull CommandResult result) {
+        if (result.length() < 4) {
+            this.errorUsage(sender);
+            return;
+        }
+
+        if (!Config.isCustomDistribution()) {
+            Lang.COMMAND_SIMULATE_ERROR_VANILLA.getMessage().send(sender);
+            return;
+        }
+
+        DistributionWay way = StringUtil.getEnum(result.getArg(1), DistributionWay.class).orElse(null);
+        Material material = Material.getMaterial(result.getArg(2).toUpperCase());
+        int runs = result.getInt(3, 0);
+        if (way == null || material == null || !material.isItem() || runs <= 0 || runs > MAX_RUNS) {
+            this.errorUsage(sender);
+            return;
+        }
+
+        if (DistributionSimulator.isRunning()) {
+            Lang.COMMAND_SIMULATE_ERROR_RUNNING.getMessage().send(sender);
+            return;
+        }
+
+        Lang.COMMAND_SIMULATE_START.getMessage()
+            .replace(Placeholders.GENERIC_AMOUNT, NumberUtil.format(runs))
+            .replace(Placeholders.GENERIC_TYPE, material.name())
+            .replace(Placeholders.GENERIC_NAME, way.name())
+            .send(sender);
+
+        new DistributionSimulator(this.plugin, way, material).runAsync(runs).whenComplete((simulation, throwable) -> {
+            // Plugin can be disabled during a long simulation, tasks can not be scheduled then.
+            if (!this.plugin.isEnabled()) return;
+
+            this.plugin.runTask(task -> {
+                if (throwable != null) {
+                    this.plugin.error("Distribution simulation failed: " + throwable.getMessage());
+                    Lang.COMMAND_SIMULATE_ERROR.getMessage().send(sender);
+                    return;
+                }
+                this.sendResult(sender, simulation);
+            });
+        });
+    }
+
+    private void sendResult(@NotNull CommandSender sender, @NotNull DistributionSimulator.Result simulation) {
+        Lang.COMMAND_SIMULATE_HEADER.getMessage()
+            .replace(Placeholders.GENERIC_AMOUNT, NumberUtil.format(simulation.runs()))
+            .replace(Placeholders.GENERIC_TYPE, simulation.material().name())
+            .replace(Placeholders.GENERIC_NAME, simulation.way().name())
+            .replace(Placeholders.GENERIC_TIME, NumberUtil.format(TimeUnit.NANOSECONDS.toMillis(simulation.nanos())) + " ms")
+            .replace(Placeholders.GENERIC_AVERAGE, NumberUtil.format(simulation.getEnchantsPerItem()))
+            .replace(Placeholders.GENERIC_RATE, NumberUtil.format(simulation.getEnchantedRate() * 100D))
+            .send(sender);
+
+        simulation.entries().stream().limit(TOP_SIZE).forEach(entry -> {
+            StringJoiner levels = new StringJoiner(", ");
+            for (int level = 1; level < entry.levels().length; level++) {
+                if (entry.levels()[level] == 0L) continue;
+
+                double share = (double) entry.levels()[level] / entry.count() * 100D;
+                levels.add(NumberUtil.toRoman(level) + ": " + NumberUtil.format(share) + "%");
+            }
+
+            Lang.COMMAND_SIMULATE_ENTRY.getMessage()
+                .replace(Placeholders.GENERIC_ENCHANT, EnchantUtils.getLocalized(entry.enchantment()))
+                .replace(Placeholders.GENERIC_RATE, NumberUtil.format(simulation.getRate(entry) * 100D))
+                .replace(Placeholders.GENERIC_LEVEL, levels.toString())
+                .send(sender);
+        });
+    }
+}
@@ -0,0 +1,127 @@
+package su.nightexpress.excellentenchants.command;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.Placeholders;
+import su.nightexpress.excellentenchants.config.Lang;
+import su.nightexpress.excellentenchants.config.Perms;
+import su.nightexpress.excellentenchants.enchantment.EnchantManager;
+import su.nightexpress.excellentenchants.enchantment.SpawnPopulationQueue;
+import su.nightexpress.excellentenchants.enchantment.metrics.EnchantMetrics;
+import su.nightexpress.excellentenchants.enchantment.util.DisplayQueue;
+import su.nightexpress.nightcore.command.CommandResult;
+import su.nightexpress.nightcore.command.impl.AbstractCommand;
+import su.nightexpress.nightcore.language.entry.LangText;
+import su.nightexpress.nightcore.util.Lists;
+import su.nightexpress.nightcore.util.NumberUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+public class StatsCommand extends AbstractCommand<EnchantsPlugin> {
+
+    private static final int TOP_SIZE = 10;
+
+    public StatsCommand(@NotNull EnchantsPlugin plugin) {
+        super(plugin, new String[]{"stats"}, Perms.COMMAND_STATS);
+        this.setDescription(Lang.COMMAND_STATS_DESC);
+        this.setUsage(Lang.COMMAND_STATS_USAGE);
+    }
+
+    @Override
+    @NotNull
+    public List<String> getTab(@NotNull Player player, int arg, @NotNull String[] args) {
+        if (arg == 1) {
+            return Lists.newList("dump", "reset");
+        }
+        return super.getTab(player, arg, args);
+    }
+
+    @Override
+    protected void onExecute(@NotNull CommandSender sender, @NotNull CommandResult result) {
+        if (!EnchantMetrics.isEnabled()) {
+            Lang.COMMAND_STATS_DISABLED.getMessage().send(sender);
+            return;
+        }
+
+        String action = result.length() >= 2 ? result.getArg(1).toLowerCase() : "";
+        if (action.equals("reset")) {
+            EnchantMetrics.reset();
+            DisplayQueue.resetCounters();
+            SpawnPopulationQueue spawnQueue = this.getSpawnQueue();
+            if (spawnQueue != null) spawnQueue.resetCounters();
+            Lang.COMMAND_STATS_RESET.getMessage().send(sender);
+            return;
+        }
+
+        if (action.equals("dump")) {
+            try {
+                File file = EnchantMetrics.dump(new File(plugin.getDataFolder(), "metrics"));
+                Lang.COMMAND_STATS_DUMP.getMessage().replace(Placeholders.GENERIC_FILE, file.getName()).send(sender);
+            }
+            catch (IOException exception) {
+                this.plugin.error("Could not dump metrics: " + exception.getMessage());
+                Lang.COMMAND_STATS_DUMP_ERROR.getMessage().send(sender);
+            }
+            return;
+        }
+
+        List<EnchantMetrics.Entry> entries = EnchantMetrics.getEntries();
+        if (entries.isEmpty()) {
+            Lang.COMMAND_STATS_EMPTY.getMessage().send(sender);
+            this.sendDisplayStats(sender);
+            return;
+        }
+
+        double minutes = (System.currentTimeMillis() - EnchantMetrics.getResetTime()) / 60_000D;
+        Lang.COMMAND_STATS_HEADER.getMessage()
+            .replace(Placeholders.GENERIC_AMOUNT, NumberUtil.format(Math.min(TOP_SIZE, entries.size())))
+            .replace(Placeholders.GENERIC_TIME, NumberUtil.format(minutes) + " min")
+            .send(sender);
+
+        entries.stream().limit(TOP_SIZE).forEach(entry -> {
+            LangText text = entry.getHook().isTriggerTracked() ? Lang.COMMAND_STATS_ENTRY : Lang.COMMAND_STATS_ENTRY_LISTENER;
+            text.getMessage()
+                .replace(Placeholders.GENERIC_ENCHANT, entry.getId())
+                .replace(Placeholders.GENERIC_TYPE, entry.getHook().name().toLowerCase())
+                .replace(Placeholders.GENERIC_CALLS, NumberUtil.format(entry.getCalls()))
+                .replace(Placeholders.GENERIC_TRIGGERS, NumberUtil.format(entry.getTriggers()))
+                .replace(Placeholders.GENERIC_RATE, NumberUtil.format(entry.getTriggerRate() * 100D))
+                .replace(Placeholders.GENERIC_CHARGES, NumberUtil.format(entry.getCharges()))
+                .replace(Placeholders.GENERIC_TOTAL, NumberUtil.format(entry.getNanos() / 1_000_000D))
+                .replace(Placeholders.GENERIC_AVERAGE, NumberUtil.format(entry.getAverageNanos() / 1_000D))
+                .replace(Placeholders.GENERIC_PERCENTILE, NumberUtil.format(entry.getPercentile(0.95D) / 1_000D))
+                .send(sender);
+        });
+
+        this.sendDisplayStats(sender);
+    }
+
+    private void sendDisplayStats(@NotNull CommandSender sender) {
+        Lang.COMMAND_STATS_DISPLAY.getMessage()
+            .replace(Placeholders.GENERIC_REQUESTED, NumberUtil.format(DisplayQueue.getRequested()))
+            .replace(Placeholders.GENERIC_RENDERED, NumberUtil.format(DisplayQueue.getRendered()))
+            .replace(Placeholders.GENERIC_COALESCED, NumberUtil.format(DisplayQueue.getCoalesced()))
+            .send(sender);
+
+        SpawnPopulationQueue spawnQueue = this.getSpawnQueue();
+        if (spawnQueue == null) return;
+
+        Lang.COMMAND_STATS_SPAWN.getMessage()
+            .replace(Placeholders.GENERIC_PENDING, NumberUtil.format(spawnQueue.getPending()))
+            .replace(Placeholders.GENERIC_MAX, NumberUtil.format(spawnQueue.getPeak()))
+            .replace(Placeholders.GENERIC_POPULATED, NumberUtil.format(spawnQueue.getPopulated()))
+            .replace(Placeholders.GENERIC_SKIPPED, NumberUtil.format(spawnQueue.getSkipped()))
+            .send(sender);
+    }
+
+    @Nullable
+    private SpawnPopulationQueue getSpawnQueue() {
+        EnchantManager manager = this.plugin.getEnchantManager();
+        return manager == null ? null : manager.getSpawnQueue();
+    }
+}
@@ -44,6 +44,83 @@ public class Config {
         "[Default is 100]"
     );
 
+    public static final ConfigValue<Boolean> CORE_EQUIPMENT_CACHE_ENABLED = ConfigValue.create("Core.Equipment_Cache.Enabled",
+        true,
+        "When enabled, resolved enchantments of entity's equipment are cached and reused by enchantment events",
+        "until equipment is changed (held slot switch, inventory clicks, armor equip, item break, pickups, etc.).",
+        "[Enable for performance; Disable if other plugins modify equipment enchantments in unusual ways]",
+        "[Default is true]"
+    );
+
+    public static final ConfigValue<Long> CORE_EQUIPMENT_CACHE_LIFETIME = ConfigValue.create("Core.Equipment_Cache.Lifetime",
+        3000L,
+        "Sets max. lifetime (in milliseconds) of the cached equipment data.",
+        "Cached data is also dropped as soon as any equipped item is replaced, or changed by player actions (inventory clicks, anvil, etc.).",
+        "Items changed in place by other plugins are picked up when this lifetime ends.",
+        "Set to 0 to keep data until equipment change. Data of removed entities is purged regardless of this setting.",
+        "[Default is 3000]"
+    );
+
+    public static final ConfigValue<Boolean> CORE_PARALLEL_LOADING = ConfigValue.create("Core.Parallel_Loading",
+        true,
+        "When enabled, enchantment configs are read and parsed in parallel on plugin load and reload.",
+        "Enchantments are still registered on the server in the same order.",
+        "Disable it if some enchantment configs fail to load after updates to find the cause easier.",
+        "[Default is true]"
+    );
+
+    public static final ConfigValue<Long> CORE_RANDOM_SEED = ConfigValue.create("Core.Random_Seed",
+        -1L,
+        "Sets seed for enchantment distribution and trigger chance rolls, so results are the same for the same order of events.",
+        "Distribution rolls are seeded per world. Other rolls are seeded on the main thread only.",
+        "Useful to reproduce distribution issues and for benchmarks. Keep it disabled on live servers.",
+        "Set to -1 to disable.",
+        "[Default is -1]"
+    );
+
+    public static final ConfigValue<Integer> CORE_SIMULATOR_THREADS = ConfigValue.create("Core.Simulator.Threads",
+        2,
+        "Sets max. amount of threads used by the '/eenchants simulate' command.",
+        "Simulations run alongside the server, so keep it low on live servers.",
+        "Plugin reloads are not allowed while a simulation is running.",
+        "[Default is 2]"
+    );
+
+    public static final ConfigValue<Boolean> CORE_CONFIG_WATCHER_ENABLED = ConfigValue.create("Core.Config_Watcher.Enabled",
+        false,
+        "When enabled, changes in enchantment config files are detected and applied automatically.",
+        "Only changed enchantments are reloaded, other enchantments are not affected.",
+        "You can also reload a single enchantment with the '/eenchants reload <enchant>' command.",
+        "[Default is false]"
+    );
+
+    public static final ConfigValue<Integer> CORE_LORE_CACHE_SIZE = ConfigValue.create("Core.Lore_Cache.Size",
+        2048,
+        "Sets max. amount of rendered enchantment names and descriptions kept in memory.",
+        "Rendered lines are reused for items with the same enchantment, level and charges display,",
+        "so items are not formatted from scratch on every lore update.",
+        "Set to 0 to disable.",
+        "[Default is 2048]"
+    );
+
+    public static final ConfigValue<Integer> CORE_PACKET_CACHE_SIZE = ConfigValue.create("Core.Packet_Cache.Size",
+        1024,
+        "Sets max. amount of item stacks with rewritten lore kept in memory for the packet display mode.",
+        "Items sent to players are matched by their data, so the same item is not rewritten for every packet.",
+        "Set to 0 to disable.",
+        "[Default is 1024]"
+    );
+
+    public static final ConfigValue<Integer> CORE_PACKET_ASYNC_WORKERS = ConfigValue.create("Core.Packet_Async.Workers",
+        0,
+        "Sets amount of threads used to rewrite item lore in packets for the packet display mode.",
+        "When above 0, items are rewritten asynchronously from pre-rendered enchantment names and descriptions,",
+        "so opening inventories with many enchanted items does not add to the server tick time.",
+        "Set to 0 to rewrite items on the main thread.",
+        "Changing this setting requires a server restart.",
+        "[Default is 0]"
+    );
+
     public static final ConfigValue<Boolean> CORE_PASSIVE_ENCHANTS_FOR_MOBS = ConfigValue.create("Core.Apply_Passive_Enchants_To_Mobs",
         true,
         "Sets whether or not mobs can have passive enchantment effects (such as permanent potion effects, regeneration, etc.).",
@@ -51,6 +128,15 @@ public class Config {
         "[Default is true]"
     );
 
+    public static final ConfigValue<Boolean> CORE_METRICS_ENABLED = ConfigValue.create("Core.Metrics.Enabled",
+        false,
+        "When enabled, the plugin collects per-enchantment runtime metrics:",
+        "calls, successful triggers, charges consumed and time spent in each enchantment hook.",
+        "Use '/eenchants stats' to view them or '/eenchants stats dump' to save them in a CSV file.",
+        "[*] Enchantment event handlers are registered with timing wrappers while enabled. Reboot to apply.",
+        "[Default is false]"
+    );
+
     public static final ConfigValue<Integer> CORE_ITEM_ENCHANT_LIMIT = ConfigValue.create("Core.Item_Enchantments_Limit",
         3,
         "Sets max. amount of custom enchantments per item.",
@@ -125,6 +211,27 @@ public class Config {
         true,
         "When enabled, enchanted books in villager trades will have no more than 1 enchantment (vanilla or custom one).");
 
+    public static final ConfigValue<Integer> DISTRIBUTION_MOB_EQUIPMENT_DELAY = ConfigValue.create("Enchantments.Distribution.Custom.Mob_Equipment.Delay",
+        40,
+        "Sets how soon (in ticks) equipment of spawned mobs will be enchanted.",
+        "Lower values may not work, since other plugins and the server set mob equipment after spawn.",
+        "[Default is 40]"
+    );
+
+    public static final ConfigValue<Integer> DISTRIBUTION_MOB_EQUIPMENT_ENTITIES_PER_TICK = ConfigValue.create("Enchantments.Distribution.Custom.Mob_Equipment.Entities_Per_Tick",
+        50,
+        "Sets how many spawned mobs can have their equipment enchanted per tick.",
+        "Other mobs will wait for the next ticks. Set to 0 for no limit.",
+        "[Default is 50]"
+    );
+
+    public static final ConfigValue<Integer> DISTRIBUTION_MOB_EQUIPMENT_MICROS_PER_TICK = ConfigValue.create("Enchantments.Distribution.Custom.Mob_Equipment.Micros_Per_Tick",
+        2000,
+        "Sets how much time (in microseconds) can be spent to enchant equipment of spawned mobs per tick.",
+        "At least one mob is processed per tick. Set to 0 for no limit.",
+        "[Default is 2000 (2 ms)]"
+    );
+
     private static final ConfigValue<Map<DistributionWay, DistributionWaySettings>> DISTRIBUTION_WAY_SETTINGS = ConfigValue.forMap("Enchantments.Distribution.Custom.Ways",
         id -> StringUtil.getEnum(id, DistributionWay.class).orElse(null),
         (cfg, path, def) -> DistributionWaySettings.read(cfg, path + "." + def),
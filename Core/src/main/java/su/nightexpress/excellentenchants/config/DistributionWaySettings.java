@@ -1,9 +1,12 @@
 package su.nightexpress.excellentenchants.config;
 
 import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.api.EnchantRandom;
 import su.nightexpress.nightcore.config.FileConfig;
 import su.nightexpress.nightcore.util.wrapper.UniInt;
 
+import java.util.random.RandomGenerator;
+
 public class DistributionWaySettings {
 
     private final boolean enabled;
@@ -38,7 +41,11 @@ public class DistributionWaySettings {
     }
 
     public int rollAmount() {
-        return this.amount.roll();
+        return this.rollAmount(EnchantRandom.get());
+    }
+
+    public int rollAmount(@NotNull RandomGenerator random) {
+        return EnchantRandom.nextInt(random, this.amount.getMinValue(), this.amount.getMaxValue());
     }
 
     public boolean isEnabled() {
@@ -65,6 +65,103 @@ public class Lang extends CoreLang {
         LIGHT_GRAY.enclose("Given " + LIGHT_YELLOW.enclose(GENERIC_NAME) + " enchanted book to " + LIGHT_YELLOW.enclose(PLAYER_DISPLAY_NAME) + "."));
 
 
+    public static final LangString COMMAND_RELOAD_DESC = LangString.of("Command.Reload.Desc",
+        "Reload the plugin or a single enchantment.");
+
+    public static final LangString COMMAND_RELOAD_USAGE = LangString.of("Command.Reload.Usage",
+        "[enchant]");
+
+    public static final LangText COMMAND_RELOAD_DONE = LangText.of("Command.Reload.Done",
+        LIGHT_GRAY.enclose("Plugin " + LIGHT_GREEN.enclose("reloaded") + "!"));
+
+    public static final LangText COMMAND_RELOAD_ENCHANT_DONE = LangText.of("Command.Reload.Enchant.Done",
+        LIGHT_GRAY.enclose("Enchantment " + LIGHT_YELLOW.enclose(GENERIC_NAME) + " " + LIGHT_GREEN.enclose("reloaded") + "!"));
+
+    public static final LangText COMMAND_RELOAD_ENCHANT_ERROR = LangText.of("Command.Reload.Enchant.Error",
+        RED.enclose("Could not reload " + LIGHT_YELLOW.enclose(GENERIC_NAME) + " enchantment. See console for details."));
+
+    public static final LangText COMMAND_RELOAD_ERROR_SIMULATION = LangText.of("Command.Reload.Error.Simulation",
+        RED.enclose("Can not reload while distribution simulation is running!"));
+
+
+    public static final LangString COMMAND_STATS_DESC = LangString.of("Command.Stats.Desc",
+        "View enchantment runtime metrics.");
+
+    public static final LangString COMMAND_STATS_USAGE = LangString.of("Command.Stats.Usage",
+        "[dump|reset]");
+
+    public static final LangText COMMAND_STATS_DISABLED = LangText.of("Command.Stats.Disabled",
+        RED.enclose("Metrics are disabled. Enable them with " + LIGHT_YELLOW.enclose("Core.Metrics.Enabled") + " in config and reboot."));
+
+    public static final LangText COMMAND_STATS_EMPTY = LangText.of("Command.Stats.Empty",
+        LIGHT_GRAY.enclose("No metrics collected yet."));
+
+    public static final LangText COMMAND_STATS_HEADER = LangText.of("Command.Stats.Header",
+        LIGHT_GRAY.enclose("Top " + LIGHT_YELLOW.enclose(GENERIC_AMOUNT) + " enchantment hooks by time spent (collected for " + LIGHT_YELLOW.enclose(GENERIC_TIME) + "):"));
+
+    public static final LangText COMMAND_STATS_ENTRY = LangText.of("Command.Stats.Entry",
+        LIGHT_GRAY.enclose(LIGHT_YELLOW.enclose(GENERIC_ENCHANT) + " " + GRAY.enclose("[" + GENERIC_TYPE + "]") + ": " +
+            LIGHT_YELLOW.enclose(GENERIC_CALLS) + " calls, " +
+            LIGHT_YELLOW.enclose(GENERIC_TRIGGERS) + " triggers (" + GENERIC_RATE + "%), " +
+            LIGHT_YELLOW.enclose(GENERIC_CHARGES) + " charges, " +
+            LIGHT_YELLOW.enclose(GENERIC_TOTAL + "ms") + " total, " +
+            LIGHT_YELLOW.enclose(GENERIC_AVERAGE + "µs") + " avg, " +
+            LIGHT_YELLOW.enclose(GENERIC_PERCENTILE + "µs") + " p95"));
+
+    public static final LangText COMMAND_STATS_ENTRY_LISTENER = LangText.of("Command.Stats.Entry_Listener",
+        LIGHT_GRAY.enclose(LIGHT_YELLOW.enclose(GENERIC_ENCHANT) + " " + GRAY.enclose("[" + GENERIC_TYPE + "]") + ": " +
+            LIGHT_YELLOW.enclose(GENERIC_CALLS) + " calls, " +
+            LIGHT_YELLOW.enclose(GENERIC_TOTAL + "ms") + " total, " +
+            LIGHT_YELLOW.enclose(GENERIC_AVERAGE + "µs") + " avg, " +
+            LIGHT_YELLOW.enclose(GENERIC_PERCENTILE + "µs") + " p95"));
+
+    public static final LangText COMMAND_STATS_DISPLAY = LangText.of("Command.Stats.Display",
+        LIGHT_GRAY.enclose("Lore updates: " +
+            LIGHT_YELLOW.enclose(GENERIC_REQUESTED) + " requested, " +
+            LIGHT_YELLOW.enclose(GENERIC_RENDERED) + " rendered, " +
+            LIGHT_YELLOW.enclose(GENERIC_COALESCED) + " coalesced."));
+
+    public static final LangText COMMAND_STATS_SPAWN = LangText.of("Command.Stats.Spawn",
+        LIGHT_GRAY.enclose("Mob equipment: " +
+            LIGHT_YELLOW.enclose(GENERIC_PENDING) + " pending (peak " + LIGHT_YELLOW.enclose(GENERIC_MAX) + "), " +
+            LIGHT_YELLOW.enclose(GENERIC_POPULATED) + " populated, " +
+            LIGHT_YELLOW.enclose(GENERIC_SKIPPED) + " skipped."));
+
+    public static final LangText COMMAND_STATS_DUMP = LangText.of("Command.Stats.Dump",
+        LIGHT_GRAY.enclose("Metrics saved to " + LIGHT_YELLOW.enclose(GENERIC_FILE) + "."));
+
+    public static final LangText COMMAND_STATS_DUMP_ERROR = LangText.of("Command.Stats.DumpError",
+        RED.enclose("Could not save metrics file. See console for details."));
+
+    public static final LangText COMMAND_STATS_RESET = LangText.of("Command.Stats.Reset",
+        LIGHT_GRAY.enclose("Metrics have been reset."));
+
+
+    public static final LangString COMMAND_SIMULATE_DESC = LangString.of("Command.Simulate.Desc",
+        "Simulate enchantment distribution for an item.");
+
+    public static final LangString COMMAND_SIMULATE_USAGE = LangString.of("Command.Simulate.Usage",
+        "<way> <material> <runs>");
+
+    public static final LangText COMMAND_SIMULATE_START = LangText.of("Command.Simulate.Start",
+        LIGHT_GRAY.enclose("Simulating " + LIGHT_YELLOW.enclose(GENERIC_AMOUNT) + " populations of " + LIGHT_YELLOW.enclose(GENERIC_TYPE) + " via " + LIGHT_YELLOW.enclose(GENERIC_NAME) + "..."));
+
+    public static final LangText COMMAND_SIMULATE_HEADER = LangText.of("Command.Simulate.Header",
+        LIGHT_GRAY.enclose("Simulated " + LIGHT_YELLOW.enclose(GENERIC_AMOUNT) + " populations of " + LIGHT_YELLOW.enclose(GENERIC_TYPE) + " via " + LIGHT_YELLOW.enclose(GENERIC_NAME) + " in " + LIGHT_YELLOW.enclose(GENERIC_TIME) + ": " +
+            LIGHT_YELLOW.enclose(GENERIC_RATE + "%") + " items enchanted, " + LIGHT_YELLOW.enclose(GENERIC_AVERAGE) + " enchantments per item."));
+
+    public static final LangText COMMAND_SIMULATE_ENTRY = LangText.of("Command.Simulate.Entry",
+        LIGHT_GRAY.enclose(LIGHT_YELLOW.enclose(GENERIC_ENCHANT) + ": " + LIGHT_GREEN.enclose(GENERIC_RATE + "%") + " of items (" + GENERIC_LEVEL + ")"));
+
+    public static final LangText COMMAND_SIMULATE_ERROR = LangText.of("Command.Simulate.Error",
+        RED.enclose("Simulation failed. See console for details."));
+
+    public static final LangText COMMAND_SIMULATE_ERROR_RUNNING = LangText.of("Command.Simulate.Error.Running",
+        RED.enclose("Another simulation is already running!"));
+
+    public static final LangText COMMAND_SIMULATE_ERROR_VANILLA = LangText.of("Command.Simulate.Error.Vanilla",
+        RED.enclose("Simulation is available for custom distribution only!"));
+
     public static final LangText ERROR_INVALID_ENCHANT = LangText.of("Error.InvalidEnchantment",
         RED.enclose("Invalid enchantment."));
 
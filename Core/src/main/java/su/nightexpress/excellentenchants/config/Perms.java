@@ -19,6 +19,8 @@ public class Perms {
     public static final UniPermission COMMAND_LIST_OTHERS        = new UniPermission(PREFIX_COMMAND + "list.others");
     public static final UniPermission COMMAND_RARITY_BOOK = new UniPermission(PREFIX_COMMAND + "raritybook");
     public static final UniPermission COMMAND_RELOAD      = new UniPermission(PREFIX_COMMAND + "reload");
+    public static final UniPermission COMMAND_STATS       = new UniPermission(PREFIX_COMMAND + "stats");
+    public static final UniPermission COMMAND_SIMULATE    = new UniPermission(PREFIX_COMMAND + "simulate");
 
     static {
         PLUGIN.addChildren(COMMAND);
@@ -29,7 +31,9 @@ public class Perms {
             COMMAND_GET_FUEL,
             COMMAND_LIST, COMMAND_LIST_OTHERS,
             COMMAND_RELOAD,
-            COMMAND_RARITY_BOOK
+            COMMAND_RARITY_BOOK,
+            COMMAND_STATS,
+            COMMAND_SIMULATE
         );
     }
 }
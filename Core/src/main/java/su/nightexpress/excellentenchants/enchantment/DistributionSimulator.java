@@ -0,0 +1,226 @@
+package su.nightexpress.excellentenchants.enchantment;
+
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.api.DistributionWay;
+import su.nightexpress.excellentenchants.api.enchantment.Rarity;
+import su.nightexpress.excellentenchants.config.Config;
+import su.nightexpress.excellentenchants.enchantment.registry.EnchantRegistry;
+import su.nightexpress.excellentenchants.enchantment.registry.RegistryViews;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs many populations of the same item in parallel and counts generated enchantments, to check distribution
+ * settings without playing. Populations are created without world, so world restrictions and villager book rules
+ * are not applied, and nothing is changed on the server.
+ * <p>
+ * Populations read enchantment settings from the simulation threads, so plugin and enchantment reloads must not
+ * happen while a simulation is running, see {@link #isRunning()}.
+ */
+public class DistributionSimulator {
+
+    private static final int           CHUNK_SIZE = 10_000;
+    private static final AtomicInteger RUNNING    = new AtomicInteger();
+
+    private final EnchantsPlugin  plugin;
+    private final DistributionWay way;
+    private final Material        material;
+
+    private long seed;
+    private int  parallelism;
+
+    public DistributionSimulator(@NotNull EnchantsPlugin plugin, @NotNull DistributionWay way, @NotNull Material material) {
+        this.plugin = plugin;
+        this.way = way;
+        this.material = material;
+        this.seed = System.nanoTime();
+        this.parallelism = Config.CORE_SIMULATOR_THREADS.get();
+    }
+
+    public static boolean isRunning() {
+        return RUNNING.get() > 0;
+    }
+
+    /**
+     * Same seed and amount of runs give the same result for the same settings, regardless of parallelism.
+     */
+    @NotNull
+    public DistributionSimulator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Sets max. amount of threads, limited by available processors minus one for the server thread.
+     */
+    @NotNull
+    public DistributionSimulator withParallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Runs simulation on a separate pool. Must be called on the main thread, since candidate tables for the item
+     * are prepared here.
+     */
+    @NotNull
+    public CompletableFuture<Result> runAsync(int runs) {
+        RegistryViews views = this.prepare();
+
+        RUNNING.incrementAndGet();
+        try {
+            return CompletableFuture.supplyAsync(() -> this.run(views, runs)).whenComplete((result, throwable) -> RUNNING.decrementAndGet());
+        }
+        catch (RuntimeException exception) {
+            RUNNING.decrementAndGet();
+            throw exception;
+        }
+    }
+
+    /**
+     * Runs simulation and waits for the result. Must be called on the main thread.
+     */
+    @NotNull
+    public Result run(int runs) {
+        RegistryViews views = this.prepare();
+
+        RUNNING.incrementAndGet();
+        try {
+            return this.run(views, runs);
+        }
+        finally {
+            RUNNING.decrementAndGet();
+        }
+    }
+
+    @NotNull
+    private RegistryViews prepare() {
+        RegistryViews views = EnchantRegistry.getViews();
+        for (Rarity rarity : Rarity.values()) {
+            views.getTable(this.way, rarity, this.material);
+        }
+        return views;
+    }
+
+    @NotNull
+    private Result run(@NotNull RegistryViews views, int runs) {
+        long start = System.nanoTime();
+        int parallelism = Math.max(1, Math.min(this.parallelism, Runtime.getRuntime().availableProcessors() - 1));
+
+        Tally tally;
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            tally = pool.invoke(new SimulationTask(views, runs, new SplittableRandom(this.seed)));
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        tally.levels.forEach((enchantment, levels) -> entries.add(new Entry(enchantment, Arrays.stream(levels).sum(), levels)));
+        entries.sort(Comparator.comparingLong(Entry::count).reversed());
+
+        return new Result(this.way, this.material, runs, tally.enchanted, tally.enchants, System.nanoTime() - start, entries);
+    }
+
+    private static class Tally {
+
+        private final Map<Enchantment, long[]> levels = new HashMap<>(); // Index is enchantment level.
+
+        private long enchanted;
+        private long enchants;
+
+        private void add(@NotNull Map<Enchantment, Integer> population) {
+            if (population.isEmpty()) return;
+
+            this.enchanted++;
+            this.enchants += population.size();
+            population.forEach((enchantment, level) -> this.count(enchantment, level, 1L));
+        }
+
+        private void count(@NotNull Enchantment enchantment, int level, long amount) {
+            long[] array = this.levels.get(enchantment);
+            if (array == null || array.length <= level) {
+                long[] grown = new long[Math.max(level + 1, 6)];
+                if (array != null) System.arraycopy(array, 0, grown, 0, array.length);
+                this.levels.put(enchantment, grown);
+                array = grown;
+            }
+            array[level] += amount;
+        }
+
+        @NotNull
+        private Tally merge(@NotNull Tally other) {
+            this.enchanted += other.enchanted;
+            this.enchants += other.enchants;
+            other.levels.forEach((enchantment, array) -> {
+                for (int level = 0; level < array.length; level++) {
+                    if (array[level] != 0L) this.count(enchantment, level, array[level]);
+                }
+            });
+            return this;
+        }
+    }
+
+    private class SimulationTask extends RecursiveTask<Tally> {
+
+        private final RegistryViews    views;
+        private final int              runs;
+        private final SplittableRandom random;
+
+        private SimulationTask(@NotNull RegistryViews views, int runs, @NotNull SplittableRandom random) {
+            this.views = views;
+            this.runs = runs;
+            this.random = random;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (this.runs <= CHUNK_SIZE) {
+                EnchantPopulator populator = new EnchantPopulator(plugin, new ItemStack(material), way)
+                    .withViews(this.views)
+                    .withRandom(this.random);
+
+                Tally tally = new Tally();
+                for (int run = 0; run < this.runs; run++) {
+                    tally.add(populator.createPopulation());
+                }
+                return tally;
+            }
+
+            // Split before fork, so results depend on the seed only and not on the thread scheduling.
+            int half = this.runs / 2;
+            SimulationTask left = new SimulationTask(this.views, half, this.random.split());
+            SimulationTask right = new SimulationTask(this.views, this.runs - half, this.random);
+
+            left.fork();
+            Tally tally = right.compute();
+            return tally.merge(left.join());
+        }
+    }
+
+    /**
+     * @param levels Amount of generations for each enchantment level, index is the level.
+     */
+    public record Entry(@NotNull Enchantment enchantment, long count, long[] levels) {}
+
+    public record Result(@NotNull DistributionWay way, @NotNull Material material, int runs, long enchanted, long enchants, long nanos,
+                         @NotNull List<Entry> entries) {
+
+        public double getEnchantsPerItem() {
+            return this.runs == 0 ? 0D : (double) this.enchants / this.runs;
+        }
+
+        public double getEnchantedRate() {
+            return this.runs == 0 ? 0D : (double) this.enchanted / this.runs;
+        }
+
+        public double getRate(@NotNull Entry entry) {
+            return this.runs == 0 ? 0D : (double) entry.count() / this.runs;
+        }
+    }
+}
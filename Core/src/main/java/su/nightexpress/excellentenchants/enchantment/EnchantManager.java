@@ -3,18 +3,27 @@ package su.nightexpress.excellentenchants.enchantment;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import su.nightexpress.excellentenchants.EnchantsPlugin;
 import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
 import su.nightexpress.excellentenchants.api.enchantment.type.PassiveEnchant;
 import su.nightexpress.excellentenchants.config.Config;
 import su.nightexpress.excellentenchants.enchantment.impl.armor.FlameWalkerEnchant;
 import su.nightexpress.excellentenchants.enchantment.listener.EnchantAnvilListener;
+import su.nightexpress.excellentenchants.enchantment.listener.EnchantEquipmentListener;
 import su.nightexpress.excellentenchants.enchantment.listener.EnchantGenericListener;
 import su.nightexpress.excellentenchants.enchantment.listener.EnchantPopulationListener;
 import su.nightexpress.excellentenchants.enchantment.listener.EnchantVanillaListener;
 import su.nightexpress.excellentenchants.enchantment.menu.EnchantmentsListMenu;
+import su.nightexpress.excellentenchants.enchantment.metrics.EnchantMetrics;
+import su.nightexpress.excellentenchants.enchantment.metrics.MetricHook;
+import su.nightexpress.excellentenchants.enchantment.registry.EnchantConfigWatcher;
 import su.nightexpress.excellentenchants.enchantment.registry.EnchantRegistry;
+import su.nightexpress.excellentenchants.enchantment.util.DisplaySnapshot;
+import su.nightexpress.excellentenchants.enchantment.util.DisplayQueue;
 import su.nightexpress.excellentenchants.enchantment.util.EnchantUtils;
+import su.nightexpress.excellentenchants.enchantment.util.LoreCache;
+import su.nightexpress.excellentenchants.enchantment.util.PacketItemCache;
 import su.nightexpress.nightcore.manager.AbstractManager;
 import su.nightexpress.nightcore.util.Pair;
 
@@ -25,6 +34,8 @@ public class EnchantManager extends AbstractManager<EnchantsPlugin> {
     private final Set<Pair<PassiveEnchant, EnchantmentData>> passiveEnchants;
 
     private EnchantmentsListMenu enchantmentsListMenu;
+    private EnchantConfigWatcher configWatcher;
+    private SpawnPopulationQueue spawnQueue;
 
     public EnchantManager(@NotNull EnchantsPlugin plugin) {
         super(plugin);
@@ -43,10 +54,15 @@ public class EnchantManager extends AbstractManager<EnchantsPlugin> {
 
         this.addListener(new EnchantGenericListener(this.plugin, this));
         this.addListener(new EnchantAnvilListener(this.plugin));
+        if (Config.CORE_EQUIPMENT_CACHE_ENABLED.get()) {
+            this.addListener(new EnchantEquipmentListener(this.plugin));
+        }
 
         if (Config.isCustomDistribution()) {
             this.plugin.info("Using custom distribution system. Applying patches...");
-            this.addListener(new EnchantPopulationListener(this.plugin));
+            this.spawnQueue = new SpawnPopulationQueue(this.plugin);
+            this.addListener(new EnchantPopulationListener(this.plugin, this.spawnQueue));
+            this.addTask(this.plugin.createTask(this.spawnQueue::tick).setTicksInterval(1L));
         }
         else {
             this.plugin.info("Using vanilla distribution. Applying enchanting table patches...");
@@ -58,22 +74,70 @@ public class EnchantManager extends AbstractManager<EnchantsPlugin> {
         if (EnchantRegistry.isRegistered(FlameWalkerEnchant.ID)) {
             this.addTask(this.plugin.createTask(FlameWalkerEnchant::tickBlocks).setSecondsInterval(1));
         }
+        if (Config.CORE_EQUIPMENT_CACHE_ENABLED.get()) {
+            this.addTask(this.plugin.createTask(EnchantUtils::purgeEquipmentSnapshots).setSecondsInterval(30));
+        }
+        this.addTask(this.plugin.createTask(DisplayQueue::drain).setTicksInterval(1L));
+
+        if (Config.CORE_CONFIG_WATCHER_ENABLED.get()) {
+            this.configWatcher = new EnchantConfigWatcher(this.plugin);
+            if (this.configWatcher.start()) {
+                this.addTask(this.plugin.createTask(this.configWatcher::tick).setTicksInterval(10L));
+            }
+        }
     }
 
     @Override
     protected void onShutdown() {
+        if (this.configWatcher != null) {
+            this.configWatcher.stop();
+            this.configWatcher = null;
+        }
+
+        if (this.spawnQueue != null) {
+            this.spawnQueue.clear();
+            this.spawnQueue = null;
+        }
+
         if (this.enchantmentsListMenu != null) this.enchantmentsListMenu.clear();
 
+        EnchantUtils.clearEquipmentSnapshots();
+
+        DisplayQueue.drain();
+        DisplayQueue.clear();
+        LoreCache.clear();
+        PacketItemCache.clear();
+
         /*if (EnchantRegistry.isRegistered(FlameWalkerEnchant.ID)) {
             FlameWalkerEnchant.clear();
         }*/
     }
 
+    /**
+     * Drops data rendered from enchantment settings after some enchantments are reloaded without plugin reload.
+     */
+    public void onEnchantmentsReload() {
+        if (this.enchantmentsListMenu != null) this.enchantmentsListMenu.clearIcons();
+
+        LoreCache.clear();
+        if (DisplaySnapshot.get() != null) {
+            DisplaySnapshot.update();
+        }
+    }
+
     @NotNull
     public EnchantmentsListMenu getEnchantmentsListMenu() {
         return enchantmentsListMenu;
     }
 
+    /**
+     * @return Mob equipment population queue, or null when vanilla distribution is used.
+     */
+    @Nullable
+    public SpawnPopulationQueue getSpawnQueue() {
+        return this.spawnQueue;
+    }
+
     public void openEnchantsMenu(@NotNull Player player) {
         this.enchantmentsListMenu.open(player);
     }
@@ -93,6 +157,7 @@ public class EnchantManager extends AbstractManager<EnchantsPlugin> {
         if (this.passiveEnchants.isEmpty()) return;
 
         Set<LivingEntity> entities = this.getPassiveEnchantEntities();
+        boolean metrics = EnchantMetrics.isEnabled();
 
         this.passiveEnchants.forEach(pair -> {
             PassiveEnchant enchant = pair.getFirst();
@@ -103,8 +168,20 @@ public class EnchantManager extends AbstractManager<EnchantsPlugin> {
                 EnchantUtils.getEquipped(entity, enchantmentData).forEach((item, level) -> {
                     if (!enchant.isAvailableToUse(entity)) return;
                     if (enchant.isOutOfCharges(item)) return;
-                    if (enchant.onTrigger(entity, item, level)) {
-                        enchant.consumeCharges(item, level);
+
+                    long start = metrics ? System.nanoTime() : 0L;
+                    boolean triggered = enchant.onTrigger(entity, item, level);
+                    if (metrics) {
+                        EnchantMetrics.record(MetricHook.PASSIVE, enchantmentData, System.nanoTime() - start, triggered);
+                    }
+
+                    if (triggered) {
+                        if (enchant.isChargesEnabled()) {
+                            // Items are equipment mirrors, so lore can be refreshed through the display queue.
+                            enchant.consumeChargesNoUpdate(item, level);
+                            EnchantUtils.queueDisplay(item);
+                        }
+                        if (metrics) EnchantMetrics.recordCharges(MetricHook.PASSIVE, enchantmentData);
                     }
                 });
             }
@@ -8,45 +8,68 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import su.nightexpress.excellentenchants.EnchantsPlugin;
 import su.nightexpress.excellentenchants.api.DistributionWay;
+import su.nightexpress.excellentenchants.api.EnchantRandom;
 import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
 import su.nightexpress.excellentenchants.api.enchantment.Rarity;
 import su.nightexpress.excellentenchants.config.Config;
 import su.nightexpress.excellentenchants.config.DistributionWaySettings;
 import su.nightexpress.excellentenchants.enchantment.data.CustomDistribution;
 import su.nightexpress.excellentenchants.enchantment.registry.EnchantRegistry;
+import su.nightexpress.excellentenchants.enchantment.registry.RegistryViews;
+import su.nightexpress.excellentenchants.enchantment.util.AliasTable;
 import su.nightexpress.excellentenchants.enchantment.util.EnchantUtils;
-import su.nightexpress.nightcore.util.random.Rnd;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.random.RandomGenerator;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 
 public class EnchantPopulator {
 
+    private static final int SAMPLE_ATTEMPTS = 8;
+
     //private final ExcellentEnchants                plugin;
 
     private final DistributionWay                   distributionWay;
     private final ItemStack                         item;
-    private final Map<Rarity, Set<EnchantmentData>> candidates;
+    private final Set<Rarity>                       exhausted;
+    private final Set<EnchantmentData>              excluded;
+    private final Map<EnchantmentData, Boolean>     eligibility;
     private final Map<Enchantment, Integer>         defaultPopulation;
     private final Set<BiFunction<EnchantmentData, CustomDistribution, Boolean>>   predicates;
 
+    private RegistryViews views;
     private World world;
+    private Set<EnchantmentData> allowed;
+    private RandomGenerator random;
     private BiFunction<EnchantmentData, CustomDistribution, Integer> levelGenerator;
 
     public EnchantPopulator(@NotNull EnchantsPlugin plugin, @NotNull ItemStack item, @NotNull DistributionWay distributionWay) {
         //this.plugin = plugin;
         this.item = item;
         this.distributionWay = distributionWay;
-        this.candidates = new HashMap<>();
+        this.exhausted = EnumSet.noneOf(Rarity.class);
+        this.excluded = new HashSet<>();
+        this.eligibility = new HashMap<>();
         this.defaultPopulation = new HashMap<>();
         this.predicates = new HashSet<>();
-        this.withLevelGenerator((data, distribution) -> distribution.generateLevel(this.getDistributionWay()));
+        this.views = EnchantRegistry.getViews();
+        this.withLevelGenerator((data, distribution) -> distribution.generateLevel(this.getDistributionWay(), this.getRandom()));
+    }
 
-        //this.fillDefaultCandidates();
+    /**
+     * Sets registry snapshot to pick enchantments from. By default, views at the time of populator creation are used.
+     */
+    @NotNull
+    public EnchantPopulator withViews(@NotNull RegistryViews views) {
+        this.views = views;
+        return this;
     }
 
     @NotNull
@@ -55,12 +78,32 @@ public class EnchantPopulator {
         return this;
     }
 
+    /**
+     * Sets generator for all rolls of this populator, e.g. seeded one for reproducible results.
+     * By default, it is provided by {@link EnchantRandom} for the populator world.
+     */
+    @NotNull
+    public EnchantPopulator withRandom(@NotNull RandomGenerator random) {
+        this.random = random;
+        return this;
+    }
+
     @NotNull
     public EnchantPopulator withLevelGenerator(@NotNull BiFunction<EnchantmentData, CustomDistribution, Integer> levelGenerator) {
         this.levelGenerator = levelGenerator;
         return this;
     }
 
+    /**
+     * Limits population to the given enchantments. Unlike conditions, the set is resolved once and can be shared
+     * by populators of the same source, e.g. all items of the same loot table.
+     */
+    @NotNull
+    public EnchantPopulator withCandidates(@NotNull Set<EnchantmentData> candidates) {
+        this.allowed = candidates;
+        return this;
+    }
+
     @NotNull
     public EnchantPopulator withCondition(@NotNull BiFunction<EnchantmentData, CustomDistribution, Boolean> predicate) {
         this.predicates.add(predicate);
@@ -74,45 +117,49 @@ public class EnchantPopulator {
         return this;
     }
 
-    private void fillDefaultCandidates() {
-        for (Rarity rarity : Rarity.values()) {
-            Set<EnchantmentData> dataSet = EnchantRegistry.getEnchantments(rarity);
+    private boolean isCandidate(@NotNull EnchantmentData data) {
+        if (this.excluded.contains(data)) return false;
+        if (this.allowed != null && !this.allowed.contains(data)) return false;
 
-            dataSet.removeIf(data -> {
-                CustomDistribution distribution = (CustomDistribution) data.getDistributionOptions();
+        return this.eligibility.computeIfAbsent(data, this::isEligible);
+    }
+
+    private boolean isEligible(@NotNull EnchantmentData data) {
+        CustomDistribution distribution = (CustomDistribution) data.getDistributionOptions();
 
-                // Check if can be distributed.
-                if (!distribution.isDistributable(this.getDistributionWay())) return true;
+        // Check for custom conditions.
+        if (!this.predicates.isEmpty() && !this.predicates.stream().allMatch(predicate -> predicate.apply(data, distribution))) return false;
 
-                // Check for custom conditions.
-                if (!this.predicates.isEmpty() && !this.predicates.stream().allMatch(predicate -> predicate.apply(data, distribution))) return true;
+        if (this.isAnyItemType()) return true;
 
-                // Enchanting books is always good.
-                if (this.getItem().getType() == Material.BOOK && this.getDistributionWay() == DistributionWay.ENCHANTING) return false;
+        // Item type is already checked by the candidate table, only enchantments on the item are left.
+        return data.checkEnchantLimit(this.getItem());
+    }
 
-                // Check if item can be enchanted.
-                return !data.getEnchantment().canEnchantItem(this.getItem()) && !EnchantUtils.isEnchantedBook(this.getItem());
-            });
+    private boolean isAnyItemType() {
+        // Enchanting books is always good.
+        if (this.getItem().getType() == Material.BOOK && this.getDistributionWay() == DistributionWay.ENCHANTING) return true;
 
-            this.candidates.put(rarity, dataSet);
-        }
+        return EnchantUtils.isEnchantedBook(this.getItem());
     }
 
     public boolean isEmpty() {
-        return this.getCandidates().isEmpty() || this.getCandidates().values().stream().allMatch(Set::isEmpty);
+        for (Rarity rarity : Rarity.values()) {
+            if (!this.isEmpty(rarity)) return false;
+        }
+        return true;
     }
 
     public boolean isEmpty(@NotNull Rarity rarity) {
-        return this.getCandidates(rarity).isEmpty();
+        return this.exhausted.contains(rarity) || this.getTable(rarity).isEmpty();
     }
 
     public void purge(@NotNull Rarity rarity) {
-        this.getCandidates().remove(rarity);
+        this.exhausted.add(rarity);
     }
 
     public void purge(@NotNull Rarity tier, @NotNull EnchantmentData enchant) {
-        this.getCandidates(tier).remove(enchant);
-        this.getCandidates().keySet().removeIf(this::isEmpty);
+        this.excluded.add(enchant);
     }
 
     @NotNull
@@ -131,58 +178,78 @@ public class EnchantPopulator {
     }
 
     @NotNull
-    public BiFunction<EnchantmentData, CustomDistribution, Integer> getLevelGenerator() {
-        return levelGenerator;
+    public RandomGenerator getRandom() {
+        if (this.random == null) {
+            this.random = EnchantRandom.create(this.world);
+        }
+        return this.random;
     }
 
     @NotNull
-    public Map<Rarity, Set<EnchantmentData>> getCandidates() {
-        return this.candidates;
+    public BiFunction<EnchantmentData, CustomDistribution, Integer> getLevelGenerator() {
+        return levelGenerator;
     }
 
     @NotNull
-    public Set<EnchantmentData> getCandidates(@NotNull Rarity rarity) {
-        return this.candidates.getOrDefault(rarity, new HashSet<>());
+    private AliasTable<EnchantmentData> getTable(@NotNull Rarity rarity) {
+        if (this.isAnyItemType()) {
+            return this.views.getTable(this.getDistributionWay(), rarity);
+        }
+        return this.views.getTable(this.getDistributionWay(), rarity, this.getItem().getType());
     }
 
     @Nullable
     public Rarity getRarityByWeight() {
-        Map<Rarity, Double> map = new HashMap<>();
-
-        for (Rarity rarity : this.getCandidates().keySet()) {
-            map.put(rarity, (double) rarity.getWeight());
+        double total = 0D;
+        for (Rarity rarity : Rarity.values()) {
+            if (!this.isEmpty(rarity)) total += Math.max(0, rarity.getWeight());
         }
+        if (total <= 0D) return null;
+
+        double roll = this.getRandom().nextDouble() * total;
+        Rarity last = null;
+        for (Rarity rarity : Rarity.values()) {
+            if (this.isEmpty(rarity) || rarity.getWeight() <= 0) continue;
 
-        return map.isEmpty() ? null : Rnd.getByWeight(map);
+            last = rarity;
+            roll -= rarity.getWeight();
+            if (roll < 0D) return rarity;
+        }
+        return last;
     }
 
+    /**
+     * Samples from the precomputed registry table and rejects enchantments that do not fit this item or are
+     * already purged. Falls back to an exact weighted pick when most of the rarity is rejected.
+     */
     @Nullable
     public EnchantmentData getEnchantmentByWeight(@NotNull Rarity rarity) {
-        Map<EnchantmentData, Double> map = new HashMap<>();
-
-        this.getCandidates(rarity).forEach(enchantmentData -> {
-            CustomDistribution distribution = (CustomDistribution) enchantmentData.getDistributionOptions();
-            map.put(enchantmentData, distribution.getWeight(this.getDistributionWay()));
-        });
+        return this.getTable(rarity).sample(this.getRandom(), this::isCandidate, SAMPLE_ATTEMPTS);
+    }
 
-        return map.isEmpty() ? null : Rnd.getByWeight(map);
+    private boolean isConflicting(@NotNull Set<Enchantment> population, @NotNull Enchantment enchantment) {
+        for (Enchantment has : population) {
+            if (EnchantRegistry.isConflicting(has, enchantment)) return true;
+        }
+        return false;
     }
 
     @NotNull
     public Map<Enchantment, Integer> createPopulation() {
-        this.candidates.clear();
-        this.fillDefaultCandidates();
+        this.exhausted.clear();
+        this.excluded.clear();
+        this.eligibility.clear();
 
         Map<Enchantment, Integer> population = new HashMap<>(this.defaultPopulation);
 
         DistributionWaySettings settings = Config.getDistributionWaySettings(this.getDistributionWay()).orElse(null);
-        if (settings == null || !Rnd.chance(settings.getGenerationChance())) return population;
+        if (settings == null || !EnchantRandom.chance(this.getRandom(), settings.getGenerationChance())) return population;
 
         int enchantsLimit = settings.getMaxEnchantments();
-        int enchantsRolled = settings.rollAmount();
+        int enchantsRolled = settings.rollAmount(this.getRandom());
 
         // Try to populate as many as possible.
-        while (!this.isEmpty() && enchantsRolled > 0) {
+        while (enchantsRolled > 0) {
             // Limit reached.
             if (population.size() >= enchantsLimit) break;
 
@@ -208,7 +275,7 @@ public class EnchantPopulator {
             }
 
             // Remove conflicting enchants.
-            if (population.keySet().stream().anyMatch(has -> has.conflictsWith(enchantmentData.getEnchantment()) || enchantmentData.getEnchantment().conflictsWith(has))) {
+            if (this.isConflicting(population.keySet(), enchantmentData.getEnchantment())) {
                 this.purge(rarity, enchantmentData);
                 continue;
             }
@@ -243,7 +310,8 @@ public class EnchantPopulator {
                 EnchantUtils.removeAll(item);
             }
             while (population.size() > 1) {
-                population.remove(Rnd.get(population.keySet()));
+                List<Enchantment> enchantments = new ArrayList<>(population.keySet());
+                population.remove(enchantments.get(this.getRandom().nextInt(enchantments.size())));
             }
         }
 
@@ -0,0 +1,138 @@
+package su.nightexpress.excellentenchants.enchantment;
+
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.api.DistributionWay;
+import su.nightexpress.excellentenchants.config.Config;
+import su.nightexpress.excellentenchants.enchantment.util.EnchantUtils;
+import su.nightexpress.excellentenchants.hook.HookPlugin;
+import su.nightexpress.excellentenchants.hook.impl.MythicMobsHook;
+import su.nightexpress.nightcore.util.Plugins;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Populates equipment of spawned mobs in one repeating task instead of a delayed task per spawn.
+ * Entities are processed in spawn order, no more than the configured amount and time per tick.
+ */
+public class SpawnPopulationQueue {
+
+    private final EnchantsPlugin plugin;
+    private final Deque<Entry>   queue;
+
+    private final LongAdder queued;
+    private final LongAdder populated;
+    private final LongAdder skipped;
+
+    private long tick;
+    private int  peak;
+
+    private record Entry(@NotNull LivingEntity entity, long tick) {}
+
+    public SpawnPopulationQueue(@NotNull EnchantsPlugin plugin) {
+        this.plugin = plugin;
+        this.queue = new ArrayDeque<>();
+        this.queued = new LongAdder();
+        this.populated = new LongAdder();
+        this.skipped = new LongAdder();
+    }
+
+    public void queue(@NotNull LivingEntity entity) {
+        // Delay is the same for all entries, so the queue is always ordered by due tick.
+        this.queue.add(new Entry(entity, this.tick + Config.DISTRIBUTION_MOB_EQUIPMENT_DELAY.get()));
+        this.queued.increment();
+        this.peak = Math.max(this.peak, this.queue.size());
+    }
+
+    /**
+     * Must be called every tick on the main thread.
+     */
+    public void tick() {
+        this.tick++;
+        if (this.queue.isEmpty()) return;
+
+        int limit = Config.DISTRIBUTION_MOB_EQUIPMENT_ENTITIES_PER_TICK.get();
+        long budget = TimeUnit.MICROSECONDS.toNanos(Config.DISTRIBUTION_MOB_EQUIPMENT_MICROS_PER_TICK.get());
+        long start = System.nanoTime();
+        int processed = 0;
+
+        while (!this.queue.isEmpty()) {
+            Entry entry = this.queue.peek();
+            if (entry.tick() > this.tick) break;
+            if (limit > 0 && processed >= limit) break;
+            if (budget > 0 && processed > 0 && System.nanoTime() - start >= budget) break;
+
+            this.queue.poll();
+
+            // Entity died or its chunk is unloaded.
+            LivingEntity entity = entry.entity();
+            if (entity.isDead() || !entity.isValid()) {
+                this.skipped.increment();
+                continue;
+            }
+
+            this.populate(entity);
+            this.populated.increment();
+            processed++;
+        }
+    }
+
+    private void populate(@NotNull LivingEntity entity) {
+        EntityEquipment equipment = entity.getEquipment();
+        if (equipment == null) return;
+
+        World world = entity.getWorld();
+        boolean isMythic = Plugins.isLoaded(HookPlugin.MYTHIC_MOBS) && MythicMobsHook.isMythicMob(entity);
+        boolean doPopulation = Config.getDistributionWaySettings(DistributionWay.MOB_EQUIPMENT).isPresent() && !isMythic;
+
+        for (EquipmentSlot slot : EnchantUtils.EQUIPMENT_SLOTS) {
+            ItemStack item = equipment.getItem(slot);
+            if (EnchantUtils.isEnchantable(item)) {
+                if (doPopulation) {
+                    this.plugin.createPopulator(item, DistributionWay.MOB_EQUIPMENT).withWorld(world).populate();
+                }
+                EnchantUtils.getCustomEnchantments(item).forEach((enchant, level) -> enchant.restoreCharges(item, level));
+                equipment.setItem(slot, item);
+            }
+        }
+    }
+
+    public void clear() {
+        this.queue.clear();
+    }
+
+    public int getPending() {
+        return this.queue.size();
+    }
+
+    public int getPeak() {
+        return this.peak;
+    }
+
+    public long getQueued() {
+        return this.queued.sum();
+    }
+
+    public long getPopulated() {
+        return this.populated.sum();
+    }
+
+    public long getSkipped() {
+        return this.skipped.sum();
+    }
+
+    public void resetCounters() {
+        this.queued.reset();
+        this.populated.reset();
+        this.skipped.reset();
+        this.peak = this.queue.size();
+    }
+}
@@ -13,6 +13,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import su.nightexpress.excellentenchants.EnchantsPlugin;
 import su.nightexpress.excellentenchants.api.DistributionWay;
+import su.nightexpress.excellentenchants.api.EnchantRandom;
 import su.nightexpress.excellentenchants.api.Modifier;
 import su.nightexpress.excellentenchants.api.enchantment.Cost;
 import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
@@ -23,8 +24,11 @@ import su.nightexpress.excellentenchants.api.enchantment.data.PeriodicData;
 import su.nightexpress.excellentenchants.api.enchantment.data.PotionData;
 import su.nightexpress.excellentenchants.api.enchantment.distribution.DistributionOptions;
 import su.nightexpress.excellentenchants.config.Config;
+import su.nightexpress.excellentenchants.enchantment.metrics.EnchantMetrics;
+import su.nightexpress.excellentenchants.enchantment.util.EnchantLevels;
 import su.nightexpress.excellentenchants.enchantment.util.EnchantPlaceholders;
 import su.nightexpress.excellentenchants.enchantment.util.EnchantUtils;
+import su.nightexpress.excellentenchants.enchantment.util.TextTemplate;
 import su.nightexpress.nightcore.config.ConfigValue;
 import su.nightexpress.nightcore.config.FileConfig;
 import su.nightexpress.nightcore.language.LangAssets;
@@ -48,6 +52,7 @@ import static su.nightexpress.excellentenchants.Placeholders.*;
 public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsPlugin> implements EnchantmentData {
 
     protected Enchantment enchantment;
+    private   int         ordinal = -1;
 
     private Rarity       rarity;
     private String       displayName;
@@ -75,6 +80,8 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
     private final NamespacedKey       chargesKey;
     private final EnchantPlaceholders placeholders;
 
+    private volatile LevelTexts levelTexts;
+
     public AbstractEnchantmentData(@NotNull EnchantsPlugin plugin, @NotNull File file) {
         super(plugin, file);
         this.setDescription(new ArrayList<>());
@@ -95,10 +102,21 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
 
     public void registerListeners() {
         if (this instanceof SimpeListener listener) {
-            this.plugin.getPluginManager().registerEvents(listener, plugin);
+            if (EnchantMetrics.isEnabled()) {
+                EnchantMetrics.registerEvents(this.plugin, listener, this);
+            }
+            else this.plugin.getPluginManager().registerEvents(listener, plugin);
         }
     }
 
+    /**
+     * Called on the main thread after the config is loaded. Configs can be loaded off the main thread, so any server
+     * state (recipes, worlds, etc.) must be read here and not in {@link #loadAdditional(FileConfig)}.
+     */
+    public void loadServerData() {
+
+    }
+
     @Override
     public boolean checkServerRequirements() {
         return true;
@@ -106,6 +124,9 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
 
     @Override
     protected boolean onLoad(@NotNull FileConfig cfg) {
+        this.placeholders.clear();
+        this.levelTexts = null;
+
         this.setRarity(ConfigValue.create("Settings.Rarity", Rarity.class, this.rarity,
             "The rarity is an attribute of an enchantment.",
                 "It affects the chance of getting an enchantment from enchanting or loots as well as the combination cost in anvil.",
@@ -242,7 +263,7 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
         this.placeholders
             .add(ENCHANTMENT_ID, this::getId)
             .add(ENCHANTMENT_NAME, this::getName)
-            .add(ENCHANTMENT_NAME_FORMATTED, this::getNameFormatted)
+            .add(ENCHANTMENT_NAME_FORMATTED, level -> this.formatName(level, null))
             .add(ENCHANTMENT_DESCRIPTION, () -> String.join("\n", this.getDescription()))
             .add(ENCHANTMENT_DESCRIPTION_FORMATTED, () -> String.join("\n", this.getDescriptionFormatted()))
             .add(ENCHANTMENT_DESCRIPTION_REPLACED, level -> String.join("\n", this.getDescriptionReplaced(level)))
@@ -279,7 +300,6 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
         }
 
         this.loadAdditional(cfg);
-        this.registerListeners();
         return true;
     }
 
@@ -314,6 +334,7 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
 
     public void addPlaceholder(@NotNull String key, @NotNull Function<Integer, String> replacer) {
         this.placeholders.add(key, replacer);
+        this.levelTexts = null;
     }
 
     @Override
@@ -350,12 +371,14 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
 
     @Override
     public boolean checkEnchantLimit(@NotNull ItemStack item) {
+        EnchantLevels levels = EnchantUtils.getEnchantLevels(item);
+
         // Allow to re-enchant item with the same enchantment.
-        if (EnchantUtils.contains(item, this.getEnchantment())) {
+        if (levels.contains(this)) {
             return true;
         }
 
-        return !EnchantUtils.hasMaximumEnchants(item);
+        return levels.size() < Config.CORE_ITEM_ENCHANT_LIMIT.get();
     }
 
     @Override
@@ -380,25 +403,31 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
     }
 
     public int generateLevel() {
-        return Rnd.get(1, this.getMaxLevel());
+        return EnchantRandom.nextInt(EnchantRandom.get(), 1, this.getMaxLevel());
     }
 
     @Override
     @NotNull
     public String getNameFormatted(int level, int charges) {
-        String rarityFormat = this.isCurse() ? Config.ENCHANTMENTS_DISPLAY_NAME_CURSE_FORMAT.get() : Config.ENCHANTMENTS_DISPLAY_NAME_RARITY_FORMAT.get().getOrDefault(this.getRarity(), GENERIC_NAME);
-        String chargesFormat = "";
-        boolean showLevel = !Config.ENCHANTMENTS_DISPLAY_NAME_HIDE_1ST_LEVEL.get() || level > 1;
         boolean showCharges = this.isChargesEnabled() && charges >= 0;
+        return this.getNameFormatted(level, showCharges ? this.getChargesFormatted(level, charges) : null);
+    }
 
-        if (showCharges) {
-            int chargesMax = this.getChargesMax(level);
-            int percent = (int) Math.ceil((double) charges / (double) chargesMax * 100D);
-            Map.Entry<Integer, String> entry = Config.ENCHANTMENTS_CHARGES_FORMAT.get().floorEntry(percent);
-            if (entry != null) {
-                chargesFormat = entry.getValue().replace(GENERIC_AMOUNT, String.valueOf(charges));
-            }
+    @Override
+    @NotNull
+    public String getNameFormatted(int level, @Nullable String chargesFormat) {
+        if (chargesFormat == null) {
+            LevelTexts texts = this.getLevelTexts();
+            if (texts.inRange(level)) return texts.names().get(level - 1);
         }
+        return this.formatName(level, chargesFormat);
+    }
+
+    @NotNull
+    private String formatName(int level, @Nullable String chargesFormat) {
+        String rarityFormat = this.isCurse() ? Config.ENCHANTMENTS_DISPLAY_NAME_CURSE_FORMAT.get() : Config.ENCHANTMENTS_DISPLAY_NAME_RARITY_FORMAT.get().getOrDefault(this.getRarity(), GENERIC_NAME);
+        boolean showLevel = !Config.ENCHANTMENTS_DISPLAY_NAME_HIDE_1ST_LEVEL.get() || level > 1;
+        boolean showCharges = chargesFormat != null;
 
         String compName = Config.ENCHANTMENTS_DISPLAY_NAME_COMPONENT_NAME.get().replace(GENERIC_VALUE, this.getName());
         String compLevel = showLevel ? Config.ENCHANTMENTS_DISPLAY_NAME_COMPONENT_LEVEL.get().replace(GENERIC_VALUE, NumberUtil.toRoman(level)) : "";
@@ -412,6 +441,19 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
         return rarityFormat.replace(GENERIC_NAME, nameFormat);
     }
 
+    @Override
+    @NotNull
+    public String getChargesFormatted(int level, int charges) {
+        if (!this.isChargesEnabled() || charges < 0) return "";
+
+        int chargesMax = this.getChargesMax(level);
+        int percent = (int) Math.ceil((double) charges / (double) chargesMax * 100D);
+        Map.Entry<Integer, String> entry = Config.ENCHANTMENTS_CHARGES_FORMAT.get().floorEntry(percent);
+        if (entry == null) return "";
+
+        return entry.getValue().replace(GENERIC_AMOUNT, String.valueOf(charges));
+    }
+
     @Override
     @NotNull
     public List<String> getDescriptionFormatted() {
@@ -423,9 +465,47 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
     @Override
     @NotNull
     public List<String> getDescriptionReplaced(int level) {
-        List<String> description = new ArrayList<>(this.getDescriptionFormatted());
-        description.replaceAll(this.getPlaceholders(level).replacer());
-        return description;
+        LevelTexts texts = this.getLevelTexts();
+        if (texts.inRange(level)) {
+            return new ArrayList<>(texts.descriptions().get(level - 1));
+        }
+        return new ArrayList<>(texts.templates().stream().map(template -> template.render(level)).toList());
+    }
+
+    /**
+     * Names and descriptions are compiled after all placeholders are added and rendered for every level once.
+     * Levels above max. level are rendered on demand from the compiled templates.
+     */
+    @NotNull
+    private LevelTexts getLevelTexts() {
+        LevelTexts texts = this.levelTexts;
+        if (texts == null) {
+            texts = this.compileLevelTexts();
+            this.levelTexts = texts;
+        }
+        return texts;
+    }
+
+    @NotNull
+    private LevelTexts compileLevelTexts() {
+        List<TextTemplate> templates = this.getDescriptionFormatted().stream().map(this.placeholders::compile).toList();
+        List<String> names = new ArrayList<>();
+        List<List<String>> descriptions = new ArrayList<>();
+
+        for (int level = 1; level <= this.getMaxLevel(); level++) {
+            int current = level;
+            names.add(this.formatName(level, null));
+            descriptions.add(templates.stream().map(template -> template.render(current)).toList());
+        }
+
+        return new LevelTexts(templates, List.copyOf(names), List.copyOf(descriptions));
+    }
+
+    private record LevelTexts(@NotNull List<TextTemplate> templates, @NotNull List<String> names, @NotNull List<List<String>> descriptions) {
+
+        public boolean inRange(int level) {
+            return level >= 1 && level <= this.names.size();
+        }
     }
 
     @Override
@@ -486,6 +566,12 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
         return this.isChargesEnabled() ? PDCUtil.getInt(meta, this.chargesKey).orElse(0) : -1;
     }
 
+    @Override
+    @NotNull
+    public NamespacedKey getChargesKey() {
+        return this.chargesKey;
+    }
+
     @Override
     public void setCharges(@NotNull ItemStack item, int level, int amount) {
         if (!this.isChargesEnabled()) return;
@@ -493,6 +579,16 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
         int max = this.getChargesMax(level);
         int set = Math.min(Math.abs(amount), max);
         PDCUtil.set(item, this.chargesKey, set);
+        EnchantUtils.invalidateCharges(item);
+    }
+
+    @Override
+    public void setCharges(@NotNull ItemMeta meta, int level, int amount) {
+        if (!this.isChargesEnabled()) return;
+
+        int max = this.getChargesMax(level);
+        int set = Math.min(Math.abs(amount), max);
+        PDCUtil.set(meta, this.chargesKey, set);
     }
 
     @Override
@@ -528,6 +624,17 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
         EnchantUtils.updateDisplay(item);
     }
 
+    /**
+     * Same as {@link #consumeCharges(ItemStack, int)}, but item lore is refreshed on the next tick.
+     * Use it only for live equipment item stacks (mirrors), see {@link EnchantUtils#queueDisplay(ItemStack)}.
+     */
+    public void consumeChargesDeferred(@NotNull ItemStack item, int level) {
+        if (!this.isChargesEnabled()) return;
+
+        this.consumeChargesNoUpdate(item, level);
+        EnchantUtils.queueDisplay(item);
+    }
+
     @Override
     @NotNull
     public Enchantment getEnchantment() {
@@ -539,6 +646,16 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
         this.enchantment = enchantment;
     }
 
+    @Override
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    @Override
+    public void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
     @NotNull
     @Override
     public Rarity getRarity() {
@@ -548,6 +665,7 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
     @Override
     public void setRarity(@NotNull Rarity rarity) {
         this.rarity = rarity;
+        this.levelTexts = null;
     }
 
     @NotNull
@@ -564,6 +682,7 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
     @Override
     public void setDisplayName(@NotNull String displayName) {
         this.displayName = displayName;
+        this.levelTexts = null;
     }
 
     @Override
@@ -575,6 +694,7 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
     @Override
     public void setDescription(@NotNull List<String> description) {
         this.description = description;
+        this.levelTexts = null;
     }
 
     @Override
@@ -600,6 +720,8 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
     @Override
     public void setMaxLevel(int levelMax) {
         this.maxLevel = Math.max(1, levelMax);
+        this.levelTexts = null;
+        this.resetDistributionLevels();
     }
 
     @Override
@@ -616,6 +738,7 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
     @Override
     public void setMinCost(@NotNull Cost minCost) {
         this.minCost = minCost;
+        this.resetDistributionLevels();
     }
 
     @Override
@@ -627,6 +750,14 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
     @Override
     public void setMaxCost(@NotNull Cost maxCost) {
         this.maxCost = maxCost;
+        this.resetDistributionLevels();
+    }
+
+    private void resetDistributionLevels() {
+        // Called from the constructor too, before distribution is created.
+        if (this.distributionOptions instanceof CustomDistribution distribution) {
+            distribution.resetLevelTables();
+        }
     }
 
     @Override
@@ -710,7 +841,7 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
 
     @Override
     public void setChargesMax(@NotNull Modifier chargesMax) {
-        this.chargesMax = chargesMax;
+        this.chargesMax = chargesMax.bind(this.getMaxLevel());
     }
 
     @NotNull
@@ -735,7 +866,7 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
 
     @Override
     public void setChargesConsumeAmount(@NotNull Modifier chargesConsumeAmount) {
-        this.chargesConsumeAmount = chargesConsumeAmount;
+        this.chargesConsumeAmount = chargesConsumeAmount.bind(this.getMaxLevel());
     }
 
     @Override
@@ -746,6 +877,6 @@ public abstract class AbstractEnchantmentData extends AbstractFileData<EnchantsP
 
     @Override
     public void setChargesRechargeAmount(@NotNull Modifier chargesRechargeAmount) {
-        this.chargesRechargeAmount = chargesRechargeAmount;
+        this.chargesRechargeAmount = chargesRechargeAmount.bind(this.getMaxLevel());
     }
 }
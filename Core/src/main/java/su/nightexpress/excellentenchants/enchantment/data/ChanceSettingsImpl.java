@@ -1,10 +1,10 @@
 package su.nightexpress.excellentenchants.enchantment.data;
 
 import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.api.EnchantRandom;
 import su.nightexpress.excellentenchants.api.Modifier;
 import su.nightexpress.excellentenchants.api.enchantment.data.ChanceSettings;
 import su.nightexpress.nightcore.config.FileConfig;
-import su.nightexpress.nightcore.util.random.Rnd;
 
 public class ChanceSettingsImpl implements ChanceSettings {
 
@@ -34,6 +34,6 @@ public class ChanceSettingsImpl implements ChanceSettings {
 
     @Override
     public boolean checkTriggerChance(int level) {
-        return Rnd.chance(this.getTriggerChance(level));
+        return EnchantRandom.chance(this.getTriggerChance(level));
     }
 }
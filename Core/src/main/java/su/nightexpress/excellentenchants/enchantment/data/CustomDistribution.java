@@ -1,26 +1,39 @@
 package su.nightexpress.excellentenchants.enchantment.data;
 
+import org.bukkit.NamespacedKey;
 import org.bukkit.loot.LootTable;
 import org.bukkit.loot.LootTables;
 import org.jetbrains.annotations.NotNull;
 import su.nightexpress.excellentenchants.api.enchantment.distribution.DistributionOptions;
 import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
 import su.nightexpress.excellentenchants.api.DistributionWay;
+import su.nightexpress.excellentenchants.api.EnchantRandom;
 import su.nightexpress.nightcore.config.ConfigValue;
 import su.nightexpress.nightcore.config.FileConfig;
 import su.nightexpress.nightcore.util.StringUtil;
-import su.nightexpress.nightcore.util.random.Rnd;
 import su.nightexpress.nightcore.util.wrapper.UniInt;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 public class CustomDistribution implements DistributionOptions {
 
+    private static final int MAX_COST_TABLE = 1024;
+
     private final EnchantmentData enchantmentData;
 
     private final Map<DistributionWay, Double> weightMap;
     private final Map<DistributionWay, UniInt> levelRangeMap;
     private final Set<LootTables> lootTables;
+    private final Set<NamespacedKey> lootTableKeys;
+
+    private volatile LevelTables levelTables;
+
+    /**
+     * @param byCost Enchantment level by xp level cost, already clamped for enchanting.
+     * @param fine Clamped enchantment level by distribution way ordinal and raw level.
+     */
+    private record LevelTables(int[] byCost, int[][] fine) {}
 
     public CustomDistribution(@NotNull EnchantmentData enchantmentData) {
         this.enchantmentData = enchantmentData;
@@ -28,9 +41,13 @@ public class CustomDistribution implements DistributionOptions {
         this.weightMap = new HashMap<>();
         this.levelRangeMap = new HashMap<>();
         this.lootTables = new HashSet<>();
+        this.lootTableKeys = new HashSet<>();
     }
 
     public void load(@NotNull FileConfig config) {
+        this.lootTables.clear();
+        this.lootTableKeys.clear();
+
         for (DistributionWay distributionWay : DistributionWay.values()) {
             String pathName = distributionWay.getPathName();
 
@@ -80,6 +97,52 @@ public class CustomDistribution implements DistributionOptions {
             this.lootTables.addAll(Arrays.asList(LootTables.values()));
             this.lootTables.removeAll(tables);
         }
+        this.lootTables.forEach(tables -> this.lootTableKeys.add(tables.getKey()));
+
+        this.levelTables = this.createLevelTables();
+    }
+
+    /**
+     * Drops precomputed levels, so they are created again with current level range and costs of the enchantment.
+     */
+    public void resetLevelTables() {
+        this.levelTables = null;
+    }
+
+    @NotNull
+    private LevelTables getLevelTables() {
+        LevelTables tables = this.levelTables;
+        if (tables == null) {
+            tables = this.createLevelTables();
+            this.levelTables = tables;
+        }
+        return tables;
+    }
+
+    @NotNull
+    private LevelTables createLevelTables() {
+        int maxLevel = this.enchantmentData.getMaxLevel();
+
+        DistributionWay[] ways = DistributionWay.values();
+        int[][] fine = new int[ways.length][maxLevel + 1];
+        for (DistributionWay way : ways) {
+            for (int level = 0; level <= maxLevel; level++) {
+                fine[way.ordinal()][level] = this.calculateFineLevel(level, way);
+            }
+        }
+
+        // No level can be selected above the greatest max. cost, so the table ends there.
+        int maxCost = 0;
+        for (int level = 1; level <= maxLevel; level++) {
+            maxCost = Math.max(maxCost, this.enchantmentData.getMaxCost(level));
+        }
+
+        int[] byCost = new int[Math.min(MAX_COST_TABLE, maxCost + 2)];
+        for (int xpLevel = 0; xpLevel < byCost.length; xpLevel++) {
+            byCost[xpLevel] = this.calculateLevelByEnchantCost(xpLevel);
+        }
+
+        return new LevelTables(byCost, fine);
     }
 
     @NotNull
@@ -104,7 +167,7 @@ public class CustomDistribution implements DistributionOptions {
     }
 
     public boolean isGoodLootTable(@NotNull LootTable table) {
-        return this.getLootTables().stream().anyMatch(tables -> tables.getLootTable() == table);
+        return this.lootTableKeys.contains(table.getKey());
     }
 
     public double getWeight(@NotNull DistributionWay distributionWay) {
@@ -120,16 +183,27 @@ public class CustomDistribution implements DistributionOptions {
     }
 
     public int generateLevel(@NotNull DistributionWay distributionWay) {
+        return this.generateLevel(distributionWay, EnchantRandom.get());
+    }
+
+    public int generateLevel(@NotNull DistributionWay distributionWay, @NotNull RandomGenerator random) {
         int levelCapMin = this.getMinLevel(distributionWay);
         int levelCapMax = this.getMaxLevel(distributionWay);
 
         if (levelCapMin < 1) levelCapMin = 1;
         if (levelCapMax <= 0 || levelCapMax > this.enchantmentData.getMaxLevel()) levelCapMax = this.enchantmentData.getMaxLevel();
 
-        return Rnd.get(levelCapMin, levelCapMax);
+        return EnchantRandom.nextInt(random, levelCapMin, levelCapMax);
     }
 
     public int getLevelByEnchantCost(int xpLevel) {
+        int[] byCost = this.getLevelTables().byCost();
+        if (xpLevel >= 0 && xpLevel < byCost.length) return byCost[xpLevel];
+
+        return this.calculateLevelByEnchantCost(xpLevel);
+    }
+
+    private int calculateLevelByEnchantCost(int xpLevel) {
         int get = 0;
 
         for (int level = this.enchantmentData.getMaxLevel(); level > 0; level--) {
@@ -139,10 +213,17 @@ public class CustomDistribution implements DistributionOptions {
             }
         }
 
-        return get != 0 ? this.fineLevel(get, DistributionWay.ENCHANTING) : 0;
+        return get != 0 ? this.calculateFineLevel(get, DistributionWay.ENCHANTING) : 0;
     }
 
     public int fineLevel(int level, @NotNull DistributionWay distributionWay) {
+        int[] fine = this.getLevelTables().fine()[distributionWay.ordinal()];
+        if (level >= 0 && level < fine.length) return fine[level];
+
+        return this.calculateFineLevel(level, distributionWay);
+    }
+
+    private int calculateFineLevel(int level, @NotNull DistributionWay distributionWay) {
         int levelCapMin = this.getMinLevel(distributionWay);
         int levelCapMax = this.getMaxLevel(distributionWay);
 
@@ -92,7 +92,7 @@ public class ElementalProtectionEnchant extends AbstractEnchantmentData implemen
             if (level <= 0) continue;
 
             protectionAmount += this.getProtectionAmount(level);
-            this.consumeCharges(armor, level);
+            this.consumeChargesDeferred(armor, level);
         }
 
         if (protectionAmount <= 0D) return;
@@ -140,7 +140,7 @@ public class FlameWalkerEnchant extends AbstractEnchantmentData implements Gener
             addBlock(block, Rnd.getDouble(this.getBlockDecayTime(level)) + 1);
         });
         if (!blocks.isEmpty()) {
-            this.consumeCharges(boots, level);
+            this.consumeChargesDeferred(boots, level);
         }
     }
 
@@ -189,6 +189,6 @@ public class FlameWalkerEnchant extends AbstractEnchantmentData implements Gener
         if (level <= 0) return;
 
         event.setCancelled(true);
-        this.consumeCharges(boots, level);
+        this.consumeChargesDeferred(boots, level);
     }
 }
@@ -12,6 +12,7 @@ import org.bukkit.loot.LootTable;
 import org.bukkit.loot.LootTables;
 import org.jetbrains.annotations.NotNull;
 import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.api.EnchantRandom;
 import su.nightexpress.excellentenchants.api.Modifier;
 import su.nightexpress.excellentenchants.api.enchantment.Rarity;
 import su.nightexpress.excellentenchants.api.enchantment.data.ChanceData;
@@ -24,7 +25,6 @@ import su.nightexpress.nightcore.config.ConfigValue;
 import su.nightexpress.nightcore.config.FileConfig;
 import su.nightexpress.nightcore.manager.SimpeListener;
 import su.nightexpress.nightcore.util.StringUtil;
-import su.nightexpress.nightcore.util.random.Rnd;
 
 import java.io.File;
 import java.util.*;
@@ -45,7 +45,7 @@ public class TreasureHunterEnchant extends AbstractEnchantmentData implements Ch
         this.setMaxLevel(4);
         this.setRarity(Rarity.RARE);
 
-        this.lootTables = new HashSet<>();
+        this.lootTables = EnumSet.noneOf(LootTables.class); // Stable order for seeded picks.
     }
 
     @Override
@@ -116,11 +116,11 @@ public class TreasureHunterEnchant extends AbstractEnchantmentData implements Ch
 
         Inventory inventory = holder.getInventory();
 
-        LootTable lootTable = Rnd.get(this.lootTables).getLootTable();
+        LootTable lootTable = EnchantRandom.get(EnchantRandom.get(), this.lootTables).getLootTable();
 
-        Collection<ItemStack> items = lootTable.populateLoot(Rnd.RANDOM, event.getLootContext());
+        Collection<ItemStack> items = lootTable.populateLoot(EnchantRandom.getRandom(), event.getLootContext());
         items.forEach(inventory::addItem);
 
-        this.consumeCharges(helmet, level);
+        this.consumeChargesDeferred(helmet, level);
     }
 }
@@ -66,6 +66,6 @@ public class RiverMasterEnchant extends AbstractEnchantmentData implements Gener
 
         hook.setVelocity(hook.getVelocity().multiply(this.getDistanceMod(level)));
 
-        this.consumeCharges(rod, level);
+        this.consumeChargesDeferred(rod, level);
     }
 }
@@ -40,7 +40,10 @@ public class SurvivalistEnchant extends AbstractEnchantmentData implements Fishi
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
         this.chanceSettings = ChanceSettingsImpl.create(config);
+    }
 
+    @Override
+    public void loadServerData() {
         this.plugin.getServer().recipeIterator().forEachRemaining(recipe -> {
             if (recipe instanceof CookingRecipe<?> cookingRecipe && cookingRecipe.getInput().getType().isItem()) {
                 this.cookingRecipes.add(cookingRecipe);
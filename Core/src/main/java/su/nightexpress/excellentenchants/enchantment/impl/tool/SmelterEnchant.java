@@ -83,7 +83,10 @@ public class SmelterEnchant extends AbstractEnchantmentData implements ChanceDat
             Lists.newSet(Material.COBBLESTONE),
             "List of blocks / items that are immune to the Smelter effect."
         ).read(config));
+    }
 
+    @Override
+    public void loadServerData() {
         this.plugin.getServer().recipeIterator().forEachRemaining(recipe -> {
             if (!(recipe instanceof FurnaceRecipe furnaceRecipe)) return;
 
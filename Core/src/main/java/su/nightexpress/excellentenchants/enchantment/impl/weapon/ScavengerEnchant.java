@@ -13,6 +13,7 @@ import org.bukkit.loot.LootTable;
 import org.bukkit.loot.LootTables;
 import org.jetbrains.annotations.NotNull;
 import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.api.EnchantRandom;
 import su.nightexpress.excellentenchants.api.Modifier;
 import su.nightexpress.excellentenchants.api.enchantment.Rarity;
 import su.nightexpress.excellentenchants.api.enchantment.data.ChanceData;
@@ -24,7 +25,6 @@ import su.nightexpress.excellentenchants.enchantment.util.EnchantUtils;
 import su.nightexpress.nightcore.config.ConfigValue;
 import su.nightexpress.nightcore.config.FileConfig;
 import su.nightexpress.nightcore.util.StringUtil;
-import su.nightexpress.nightcore.util.random.Rnd;
 
 import java.io.File;
 import java.util.*;
@@ -49,7 +49,7 @@ public class ScavengerEnchant extends AbstractEnchantmentData implements ChanceD
 
         this.ignoredSpawnReasons = new HashSet<>();
         this.ignoredEntities = new HashSet<>();
-        this.lootTables = new HashSet<>();
+        this.lootTables = EnumSet.noneOf(LootTables.class); // Stable order for seeded picks.
     }
 
     @Override
@@ -133,13 +133,13 @@ public class ScavengerEnchant extends AbstractEnchantmentData implements ChanceD
 
         if (!this.checkTriggerChance(level)) return false;
 
-        LootTable lootTable = Rnd.get(this.lootTables).getLootTable();
+        LootTable lootTable = EnchantRandom.get(EnchantRandom.get(), this.lootTables).getLootTable();
         LootContext.Builder builder = new LootContext.Builder(entity.getLocation());
         builder.killer(killer);
         builder.lootedEntity(entity);
         LootContext context = builder.build();
 
-        Collection<ItemStack> items = lootTable.populateLoot(Rnd.RANDOM, context);
+        Collection<ItemStack> items = lootTable.populateLoot(EnchantRandom.getRandom(), context);
 
         event.getDrops().addAll(items);
         return true;
@@ -0,0 +1,91 @@
+package su.nightexpress.excellentenchants.enchantment.listener;
+
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.block.BlockDispenseArmorEvent;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.*;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.enchantment.util.EnchantUtils;
+import su.nightexpress.nightcore.manager.AbstractListener;
+
+public class EnchantEquipmentListener extends AbstractListener<EnchantsPlugin> {
+
+    public EnchantEquipmentListener(@NotNull EnchantsPlugin plugin) {
+        super(plugin);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEquipmentHeldSlot(PlayerItemHeldEvent event) {
+        EnchantUtils.invalidateEquipment(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEquipmentSwapHands(PlayerSwapHandItemsEvent event) {
+        EnchantUtils.invalidateEquipment(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEquipmentInventoryClick(InventoryClickEvent event) {
+        EnchantUtils.invalidateEquipment(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEquipmentInventoryDrag(InventoryDragEvent event) {
+        EnchantUtils.invalidateEquipment(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEquipmentArmorInteract(PlayerInteractEvent event) {
+        if (event.getAction() != Action.RIGHT_CLICK_AIR && event.getAction() != Action.RIGHT_CLICK_BLOCK) return;
+
+        ItemStack item = event.getItem();
+        if (item == null || item.getType().getEquipmentSlot() == EquipmentSlot.HAND) return;
+
+        EnchantUtils.invalidateEquipment(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEquipmentArmorDispense(BlockDispenseArmorEvent event) {
+        LivingEntity entity = event.getTargetEntity();
+        EnchantUtils.invalidateEquipment(entity);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEquipmentItemBreak(PlayerItemBreakEvent event) {
+        EnchantUtils.invalidateEquipment(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEquipmentItemPickup(EntityPickupItemEvent event) {
+        EnchantUtils.invalidateEquipment(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEquipmentItemDrop(PlayerDropItemEvent event) {
+        EnchantUtils.invalidateEquipment(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEquipmentDeath(EntityDeathEvent event) {
+        EnchantUtils.invalidateEquipment(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEquipmentRespawn(PlayerRespawnEvent event) {
+        EnchantUtils.invalidateEquipment(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEquipmentQuit(PlayerQuitEvent event) {
+        EnchantUtils.invalidateEquipment(event.getPlayer());
+    }
+}
@@ -20,6 +20,7 @@ import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
 import su.nightexpress.excellentenchants.config.Config;
 import su.nightexpress.excellentenchants.enchantment.EnchantManager;
 import su.nightexpress.excellentenchants.enchantment.registry.EnchantRegistry;
+import su.nightexpress.excellentenchants.enchantment.util.DisplayQueue;
 import su.nightexpress.excellentenchants.enchantment.util.EnchantUtils;
 import su.nightexpress.nightcore.manager.AbstractListener;
 
@@ -69,11 +70,11 @@ public class EnchantGenericListener extends AbstractListener<EnchantsPlugin> {
     }
 
     private void updateGrindstone(@NotNull Inventory inventory) {
-        this.plugin.runTask(task -> {
+        DisplayQueue.queue(inventory, () -> {
             ItemStack result = inventory.getItem(2);
             if (result == null || result.getType().isAir()) return;
 
-            EnchantUtils.updateDisplay(result);
+            EnchantUtils.renderDisplay(result);
         });
     }
 
@@ -90,19 +91,19 @@ public class EnchantGenericListener extends AbstractListener<EnchantsPlugin> {
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onEnchantDisplayUpdateEnchanting(EnchantItemEvent event) {
-        this.plugin.runTask(task -> {
-            Inventory inventory = event.getInventory();
+        Inventory inventory = event.getInventory();
 
+        DisplayQueue.queue(inventory, () -> {
             ItemStack result = inventory.getItem(0);
             if (result == null) return;
 
             event.getEnchantsToAdd().forEach((enchantment, level) -> {
-                EnchantmentData enchant = EnchantRegistry.getByKey(enchantment.getKey());
+                EnchantmentData enchant = EnchantRegistry.getByEnchantment(enchantment);
                 if (enchant != null) {
                     enchant.restoreCharges(result, level);
                 }
             });
-            EnchantUtils.updateDisplay(result);
+            EnchantUtils.renderDisplay(result);
 
             inventory.setItem(0, result);
         });
@@ -14,18 +14,23 @@ import org.bukkit.inventory.*;
 import org.jetbrains.annotations.NotNull;
 import su.nightexpress.excellentenchants.EnchantsPlugin;
 import su.nightexpress.excellentenchants.api.DistributionWay;
+import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
 import su.nightexpress.excellentenchants.config.Config;
 import su.nightexpress.excellentenchants.enchantment.EnchantPopulator;
+import su.nightexpress.excellentenchants.enchantment.SpawnPopulationQueue;
+import su.nightexpress.excellentenchants.enchantment.registry.EnchantRegistry;
 import su.nightexpress.excellentenchants.enchantment.util.EnchantUtils;
-import su.nightexpress.excellentenchants.hook.HookPlugin;
-import su.nightexpress.excellentenchants.hook.impl.MythicMobsHook;
 import su.nightexpress.nightcore.manager.AbstractListener;
-import su.nightexpress.nightcore.util.Plugins;
+
+import java.util.Set;
 
 public class EnchantPopulationListener extends AbstractListener<EnchantsPlugin> {
 
-    public EnchantPopulationListener(@NotNull EnchantsPlugin plugin) {
+    private final SpawnPopulationQueue spawnQueue;
+
+    public EnchantPopulationListener(@NotNull EnchantsPlugin plugin, @NotNull SpawnPopulationQueue spawnQueue) {
         super(plugin);
+        this.spawnQueue = spawnQueue;
     }
 
     @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
@@ -76,11 +81,15 @@ public class EnchantPopulationListener extends AbstractListener<EnchantsPlugin>
         World world = event.getWorld();
 
         if (entity instanceof Minecart || holder instanceof Chest) {
+            // Resolved once per loot table and shared by all items.
+            Set<EnchantmentData> candidates = EnchantRegistry.getViews().getByLootTable(event.getLootTable());
+            if (candidates.isEmpty()) return;
+
             event.getLoot().forEach(item -> {
                 if (item != null && EnchantUtils.isEnchantable(item)) {
                     this.plugin.createPopulator(item, DistributionWay.LOOT_GENERATION)
                         .withWorld(world)
-                        .withCondition((data, customDistribution) -> customDistribution.isGoodLootTable(event.getLootTable()))
+                        .withCandidates(candidates)
                         .populate();
                 }
             });
@@ -108,24 +117,6 @@ public class EnchantPopulationListener extends AbstractListener<EnchantsPlugin>
         if (event.getSpawnReason() == CreatureSpawnEvent.SpawnReason.SPAWNER_EGG) return;
         if (event.getSpawnReason() == CreatureSpawnEvent.SpawnReason.SPAWNER) return;
 
-        this.plugin.runTaskLater(task -> {
-            EntityEquipment equipment = entity.getEquipment();
-            if (equipment == null) return;
-
-            World world = entity.getWorld();
-            boolean isMythic = Plugins.isLoaded(HookPlugin.MYTHIC_MOBS) && MythicMobsHook.isMythicMob(entity);
-            boolean doPopulation = Config.getDistributionWaySettings(DistributionWay.MOB_EQUIPMENT).isPresent() && !isMythic;
-
-            for (EquipmentSlot slot : EnchantUtils.EQUIPMENT_SLOTS) {
-                ItemStack item = equipment.getItem(slot);
-                if (EnchantUtils.isEnchantable(item)) {
-                    if (doPopulation) {
-                        this.plugin.createPopulator(item, DistributionWay.MOB_EQUIPMENT).withWorld(world).populate();
-                    }
-                    EnchantUtils.getCustomEnchantments(item).forEach((enchant, level) -> enchant.restoreCharges(item, level));
-                    equipment.setItem(slot, item);
-                }
-            }
-        }, 40L); // меньше недостаточно
+        this.spawnQueue.queue(entity);
     }
 }
@@ -64,6 +64,10 @@ public class EnchantmentsListMenu extends ConfigMenu<EnchantsPlugin> implements
         this.iconCache.clear();
     }
 
+    public void clearIcons() {
+        this.iconCache.clear();
+    }
+
     @Override
     protected void loadAdditional() {
         this.enchantIcon = ConfigValue.create("Enchantment.Icon", new ItemStack(Material.ENCHANTED_BOOK)).read(this.cfg);
@@ -0,0 +1,214 @@
+package su.nightexpress.excellentenchants.enchantment.metrics;
+
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+import su.nightexpress.excellentenchants.config.Config;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EnchantMetrics {
+
+    private static final MetricHook[]         HOOKS     = MetricHook.values();
+    private static final Map<String, Entry[]> ENTRY_MAP = new ConcurrentHashMap<>();
+
+    private static long resetTime = System.currentTimeMillis();
+
+    public static boolean isEnabled() {
+        return Config.CORE_METRICS_ENABLED.get();
+    }
+
+    public static void record(@NotNull MetricHook hook, @NotNull EnchantmentData data, long nanos, boolean triggered) {
+        getEntry(hook, data.getId()).record(nanos, triggered);
+    }
+
+    public static void recordCharges(@NotNull MetricHook hook, @NotNull EnchantmentData data) {
+        if (!data.isChargesEnabled()) return;
+
+        getEntry(hook, data.getId()).charges.increment();
+    }
+
+    /**
+     * Registers all event handlers of the listener with an executor that measures time spent in each of them.
+     */
+    public static void registerEvents(@NotNull EnchantsPlugin plugin, @NotNull Listener listener, @NotNull EnchantmentData data) {
+        plugin.getPluginLoader().createRegisteredListeners(listener, plugin).forEach((eventClass, listeners) -> {
+            listeners.forEach(registered -> {
+                EventExecutor executor = (owner, event) -> {
+                    long start = System.nanoTime();
+                    try {
+                        registered.callEvent(event);
+                    }
+                    finally {
+                        record(MetricHook.LISTENER, data, System.nanoTime() - start, false);
+                    }
+                };
+                plugin.getPluginManager().registerEvent(eventClass, listener, registered.getPriority(), executor, plugin, registered.isIgnoringCancelled());
+            });
+        });
+    }
+
+    @NotNull
+    private static Entry getEntry(@NotNull MetricHook hook, @NotNull String id) {
+        Entry[] entries = ENTRY_MAP.computeIfAbsent(id, k -> new Entry[HOOKS.length]);
+        Entry entry = entries[hook.ordinal()];
+        if (entry == null) {
+            synchronized (entries) {
+                entry = entries[hook.ordinal()];
+                if (entry == null) {
+                    entry = new Entry(id, hook);
+                    entries[hook.ordinal()] = entry;
+                }
+            }
+        }
+        return entry;
+    }
+
+    @NotNull
+    public static List<Entry> getEntries() {
+        List<Entry> list = new ArrayList<>();
+        ENTRY_MAP.values().forEach(entries -> {
+            for (Entry entry : entries) {
+                if (entry != null) list.add(entry);
+            }
+        });
+        list.sort(Comparator.comparingLong(Entry::getNanos).reversed());
+        return list;
+    }
+
+    public static long getResetTime() {
+        return resetTime;
+    }
+
+    public static void reset() {
+        ENTRY_MAP.clear();
+        resetTime = System.currentTimeMillis();
+    }
+
+    @NotNull
+    public static File dump(@NotNull File folder) throws IOException {
+        String date = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+        File file = new File(folder, "metrics_" + date + ".csv");
+        Files.createDirectories(folder.toPath());
+
+        List<String> lines = new ArrayList<>();
+        lines.add("enchantment,hook,calls,triggers,trigger_rate,charges,total_ns,average_ns,p50_ns,p95_ns,p99_ns");
+        getEntries().forEach(entry -> {
+            lines.add(String.join(",",
+                entry.getId(),
+                entry.getHook().name(),
+                String.valueOf(entry.getCalls()),
+                entry.getHook().isTriggerTracked() ? String.valueOf(entry.getTriggers()) : "",
+                entry.getHook().isTriggerTracked() ? String.format(Locale.ROOT, "%.4f", entry.getTriggerRate()) : "",
+                String.valueOf(entry.getCharges()),
+                String.valueOf(entry.getNanos()),
+                String.valueOf(entry.getAverageNanos()),
+                String.valueOf(entry.getPercentile(0.5D)),
+                String.valueOf(entry.getPercentile(0.95D)),
+                String.valueOf(entry.getPercentile(0.99D))
+            ));
+        });
+
+        Files.write(file.toPath(), lines);
+        return file;
+    }
+
+    public static class Entry {
+
+        private final String     id;
+        private final MetricHook hook;
+
+        private final LongAdder       calls;
+        private final LongAdder       triggers;
+        private final LongAdder       charges;
+        private final LongAdder       nanos;
+        private final AtomicLongArray histogram; // log2 buckets of call durations.
+
+        public Entry(@NotNull String id, @NotNull MetricHook hook) {
+            this.id = id;
+            this.hook = hook;
+            this.calls = new LongAdder();
+            this.triggers = new LongAdder();
+            this.charges = new LongAdder();
+            this.nanos = new LongAdder();
+            this.histogram = new AtomicLongArray(Long.SIZE);
+        }
+
+        public void record(long nanos, boolean triggered) {
+            long duration = Math.max(0L, nanos);
+
+            this.calls.increment();
+            this.nanos.add(duration);
+            if (triggered) this.triggers.increment();
+
+            int bucket = Math.min(Long.SIZE - 1, Long.SIZE - Long.numberOfLeadingZeros(duration));
+            this.histogram.incrementAndGet(bucket);
+        }
+
+        /**
+         * @return Approximate duration (upper bound of the histogram bucket) for the given percentile.
+         */
+        public long getPercentile(double percentile) {
+            long total = 0L;
+            for (int bucket = 0; bucket < this.histogram.length(); bucket++) {
+                total += this.histogram.get(bucket);
+            }
+            if (total == 0L) return 0L;
+
+            long target = (long) Math.ceil(total * percentile);
+            long count = 0L;
+            for (int bucket = 0; bucket < this.histogram.length(); bucket++) {
+                count += this.histogram.get(bucket);
+                if (count >= target) {
+                    return bucket == 0 ? 0L : 1L << Math.min(62, bucket);
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+
+        @NotNull
+        public String getId() {
+            return id;
+        }
+
+        @NotNull
+        public MetricHook getHook() {
+            return hook;
+        }
+
+        public long getCalls() {
+            return this.calls.sum();
+        }
+
+        public long getTriggers() {
+            return this.triggers.sum();
+        }
+
+        public double getTriggerRate() {
+            long calls = this.getCalls();
+            return calls == 0L ? 0D : (double) this.getTriggers() / (double) calls;
+        }
+
+        public long getCharges() {
+            return this.charges.sum();
+        }
+
+        public long getNanos() {
+            return this.nanos.sum();
+        }
+
+        public long getAverageNanos() {
+            long calls = this.getCalls();
+            return calls == 0L ? 0L : this.getNanos() / calls;
+        }
+    }
+}
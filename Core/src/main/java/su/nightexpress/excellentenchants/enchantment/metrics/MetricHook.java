@@ -0,0 +1,26 @@
+package su.nightexpress.excellentenchants.enchantment.metrics;
+
+public enum MetricHook {
+
+    BREAK,
+    DROP,
+    SHOOT,
+    HIT,
+    ARROW_DAMAGE,
+    ATTACK,
+    PROTECT,
+    KILL,
+    DEATH,
+    RESURRECT,
+    FISHING,
+    INTERACT,
+    PASSIVE,
+    /**
+     * Custom listeners of enchantments. Only time is measured, since listeners do not report whether enchantment was triggered.
+     */
+    LISTENER;
+
+    public boolean isTriggerTracked() {
+        return this != LISTENER;
+    }
+}
@@ -0,0 +1,126 @@
+package su.nightexpress.excellentenchants.enchantment.registry;
+
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+import su.nightexpress.excellentenchants.config.Config;
+import su.nightexpress.excellentenchants.enchantment.DistributionSimulator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Watches enchantment config files and reloads changed enchantments on the main thread.
+ * Changes are debounced, since editors often write a file several times in a row.
+ */
+public class EnchantConfigWatcher {
+
+    private static final long DEBOUNCE = 1000L;
+    private static final String EXTENSION = ".yml";
+
+    private final EnchantsPlugin    plugin;
+    private final Path              directory;
+    private final Map<String, Long> changes;      // Enchantment id -> last change time.
+    private final Map<String, Long> lastModified; // Enchantment id -> file time of the last load.
+
+    private WatchService watchService;
+    private Thread       thread;
+
+    public EnchantConfigWatcher(@NotNull EnchantsPlugin plugin) {
+        this.plugin = plugin;
+        this.directory = new File(plugin.getDataFolder() + Config.DIR_ENCHANTS).toPath();
+        this.changes = new ConcurrentHashMap<>();
+        this.lastModified = new HashMap<>();
+    }
+
+    public boolean start() {
+        EnchantRegistry.getRegistered().forEach(this::remember);
+
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+            this.directory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+        catch (IOException exception) {
+            this.plugin.error("Could not watch enchantment configs: " + exception.getMessage());
+            return false;
+        }
+
+        this.thread = new Thread(this::watch, this.plugin.getName() + "-ConfigWatcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+        return true;
+    }
+
+    public void stop() {
+        if (this.watchService != null) {
+            try {
+                this.watchService.close();
+            }
+            catch (IOException exception) {
+                this.plugin.error("Could not stop config watcher: " + exception.getMessage());
+            }
+            this.watchService = null;
+        }
+        this.thread = null;
+        this.changes.clear();
+        this.lastModified.clear();
+    }
+
+    private void watch() {
+        WatchService service = this.watchService;
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                key.pollEvents().forEach(event -> {
+                    if (!(event.context() instanceof Path path)) return;
+
+                    String name = path.getFileName().toString();
+                    if (!name.endsWith(EXTENSION)) return;
+
+                    this.changes.put(name.substring(0, name.length() - EXTENSION.length()), System.currentTimeMillis());
+                });
+                if (!key.reset()) break;
+            }
+        }
+        catch (InterruptedException | ClosedWatchServiceException exception) {
+            // Watcher is stopped.
+        }
+    }
+
+    /**
+     * Reloads enchantments whose files are not changed for a while. Must be called on the main thread.
+     */
+    public void tick() {
+        if (this.changes.isEmpty()) return;
+        if (DistributionSimulator.isRunning()) return; // Changes are applied when simulation is done.
+
+        long now = System.currentTimeMillis();
+        this.changes.entrySet().removeIf(entry -> {
+            if (now - entry.getValue() < DEBOUNCE) return false;
+
+            EnchantmentData data = EnchantRegistry.getById(entry.getKey());
+            if (data == null) return true;
+
+            // Skip writes done by the plugin itself when it saves missing config options.
+            long modified = this.getFile(data).lastModified();
+            if (modified == this.lastModified.getOrDefault(data.getId(), 0L)) return true;
+
+            this.plugin.getRegistry().reloadEnchantment(data);
+            this.remember(data);
+            return true;
+        });
+    }
+
+    private void remember(@NotNull EnchantmentData data) {
+        this.lastModified.put(data.getId(), this.getFile(data).lastModified());
+    }
+
+    @NotNull
+    private File getFile(@NotNull EnchantmentData data) {
+        return this.directory.resolve(data.getId() + EXTENSION).toFile();
+    }
+}
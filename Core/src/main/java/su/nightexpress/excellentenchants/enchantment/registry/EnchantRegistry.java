@@ -1,6 +1,8 @@
 package su.nightexpress.excellentenchants.enchantment.registry;
 
 import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.enchantments.Enchantment;
 import org.bukkit.event.Event;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.block.BlockBreakEvent;
@@ -11,10 +13,12 @@ import org.bukkit.event.player.PlayerInteractEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.api.ConflictMatrix;
 import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
 import su.nightexpress.excellentenchants.api.enchantment.Rarity;
 import su.nightexpress.excellentenchants.api.enchantment.type.*;
 import su.nightexpress.excellentenchants.config.Config;
+import su.nightexpress.excellentenchants.enchantment.data.AbstractEnchantmentData;
 import su.nightexpress.excellentenchants.enchantment.impl.armor.*;
 import su.nightexpress.excellentenchants.enchantment.impl.bow.*;
 import su.nightexpress.excellentenchants.enchantment.impl.fishing.*;
@@ -25,15 +29,23 @@ import su.nightexpress.excellentenchants.enchantment.impl.universal.SoulboundEnc
 import su.nightexpress.excellentenchants.enchantment.impl.weapon.*;
 import su.nightexpress.excellentenchants.enchantment.registry.wrapper.DataGather;
 import su.nightexpress.excellentenchants.enchantment.registry.wrapper.DataGathers;
-import su.nightexpress.excellentenchants.enchantment.registry.wrapper.WrappedEvent;
+import su.nightexpress.excellentenchants.enchantment.registry.wrapper.EventDispatcher;
+import su.nightexpress.excellentenchants.nms.EnchantNMS;
 import su.nightexpress.nightcore.manager.SimpleManager;
 import su.nightexpress.nightcore.util.BukkitThing;
 import su.nightexpress.nightcore.util.FileUtil;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class EnchantRegistry extends SimpleManager<EnchantsPlugin> {
 
@@ -42,10 +54,25 @@ public class EnchantRegistry extends SimpleManager<EnchantsPlugin> {
 
     private static final Map<Class<? extends EnchantmentData>, Set<? super EnchantmentData>> ENCHANTS_MAP = new HashMap<>();
 
+    private static final Map<Class<?>, long[]> CLASS_MASKS = new ConcurrentHashMap<>();
+
+    private static volatile EnchantmentData[]                 byOrdinal     = new EnchantmentData[0];
+    private static volatile Map<Enchantment, EnchantmentData> byEnchantment = Collections.emptyMap();
+    private static volatile Set<Enchantment>                  vanilla       = Collections.emptySet();
+    private static volatile RegistryViews                     views         = RegistryViews.EMPTY;
+    private static volatile Map<Enchantment, Integer>         registryIds   = Collections.emptyMap();
+
+    private final List<EventDispatcher<?, ?>> dispatchers;
+    private final List<EnchantmentData>                pending;
+    private final Map<String, Supplier<EnchantmentData>> factories; // Creates detached instances to test configs on reload.
+
     private boolean isLocked;
 
     public EnchantRegistry(@NotNull EnchantsPlugin plugin) {
         super(plugin);
+        this.dispatchers = new ArrayList<>();
+        this.pending = new ArrayList<>();
+        this.factories = new HashMap<>();
     }
 
     @Override
@@ -68,13 +95,19 @@ public class EnchantRegistry extends SimpleManager<EnchantsPlugin> {
 
         // Prevent to register enchantments during the runtime.
         if (this.isLocked) {
-            getRegistered().forEach(data -> {
-                data.clear();
-                this.load(data);
-            });
+            long start = System.nanoTime();
+            List<EnchantmentData> reloaded = new ArrayList<>(BY_ID.values());
+            reloaded.forEach(EnchantmentData::clear);
+            this.loadAll(reloaded).forEach(this::registerListeners);
+            this.plugin.info("Enchantment configs reloaded in " + millis(start) + " ms.");
+
+            updateViews();
+            this.updateConflicts();
+            this.compileDispatchers();
             return;
         }
 
+        long start = System.nanoTime();
         this.plugin.getEnchantNMS().unfreezeRegistry();
 
         // Fishing Enchants
@@ -167,15 +200,38 @@ public class EnchantRegistry extends SimpleManager<EnchantsPlugin> {
         this.register(SoulboundEnchant.ID, file -> new SoulboundEnchant(plugin, file));
         this.register(RestoreEnchant.ID, file -> new RestoreEnchant(plugin, file));
 
+        long created = System.nanoTime();
+
+        // Configs are parsed in parallel, server data is read on the main thread after. Registration must follow the original order.
+        List<EnchantmentData> loaded = this.loadAll(this.pending);
+        long configured = System.nanoTime();
+
+        loaded.forEach(this::registerEnchantment);
+        this.pending.clear();
+
         this.plugin.getEnchantNMS().freezeRegistry();
         this.plugin.info("Enchantments Registered: " + BY_ID.size());
+        this.plugin.info("Enchantments loaded in " + millis(start) + " ms (files: " + millis(start, created) + " ms, configs: "
+            + millis(created, configured) + " ms, registration: " + millis(configured, System.nanoTime()) + " ms).");
+
+        // Fill it before publishing, the array is read by async packet listeners.
+        EnchantmentData[] ordinals = new EnchantmentData[BY_ID.size()];
+        BY_ID.values().forEach(data -> ordinals[data.getOrdinal()] = data);
+        byOrdinal = ordinals;
+        indexEnchantments();
+        updateViews();
+        this.updateConflicts();
         this.isLocked = true;
+        this.compileDispatchers();
     }
 
     @Override
     protected void onShutdown() {
+        this.dispatchers.forEach(EventDispatcher::shutdown);
+        this.dispatchers.clear();
+
         if (!isLocked) {
-            getRegistered().forEach(EnchantmentData::clear);
+            BY_ID.values().forEach(EnchantmentData::clear);
             ENCHANTS_MAP.clear();
         }
     }
@@ -188,14 +244,20 @@ public class EnchantRegistry extends SimpleManager<EnchantsPlugin> {
                                                                              @NotNull Class<T> enchantClass,
                                                                              @NotNull DataGather<E, T> dataGather) {
 
-        for (EventPriority priority : EventPriority.values()) {
-            WrappedEvent<E, T> event = new WrappedEvent<>(plugin, priority, eventClass, enchantClass, dataGather);
-            plugin.getPluginManager().registerEvent(eventClass, event, priority, event, plugin, true);
-        }
-
+        // Listeners are registered once enchantments are loaded, only for priorities that are actually in use.
+        this.dispatchers.add(new EventDispatcher<>(this.plugin, eventClass, enchantClass, dataGather));
         this.registerType(enchantClass);
     }
 
+    private void compileDispatchers() {
+        this.dispatchers.forEach(EventDispatcher::compile);
+
+        long listeners = this.dispatchers.stream()
+            .mapToLong(dispatcher -> Stream.of(EventPriority.values()).filter(dispatcher::isListening).count())
+            .sum();
+        this.plugin.info("Enchantment Event Listeners: " + listeners + " (of " + this.dispatchers.size() * EventPriority.values().length + " possible)");
+    }
+
     private <T extends EnchantmentData> boolean registerEnchantType(@NotNull T enchant) {
         Class<? extends EnchantmentData> enchantClass = enchant.getClass();
 
@@ -221,22 +283,253 @@ public class EnchantRegistry extends SimpleManager<EnchantsPlugin> {
             return;
         }
 
-        if (!this.registerEnchantType(enchantmentData) || !enchantmentData.checkServerRequirements()) {
+        if (!enchantmentData.checkServerRequirements()) {
             return;
         }
 
-        this.load(enchantmentData);
+        this.pending.add(enchantmentData);
+        this.factories.put(enchantmentData.getId(), () -> supplier.apply(file));
+    }
+
+    private void registerEnchantment(@NotNull EnchantmentData enchantmentData) {
+        if (!this.registerEnchantType(enchantmentData)) {
+            return;
+        }
 
         this.plugin.getEnchantNMS().registerEnchantment(enchantmentData);
+        this.registerListeners(enchantmentData);
 
+        enchantmentData.setOrdinal(BY_ID.size());
         BY_KEY.put(NamespacedKey.minecraft(enchantmentData.getId()), enchantmentData);
         BY_ID.put(enchantmentData.getId(), enchantmentData);
 
         this.plugin.info("Registered enchantment: " + enchantmentData.getId());
     }
 
-    private void load(@NotNull EnchantmentData enchantmentData) {
-        enchantmentData.load();
+    /**
+     * Indexes Bukkit enchantment instances, so item enchantments are resolved without key hashing.
+     * Registry is frozen at this point and enchantment instances never change until restart.
+     */
+    private static void indexEnchantments() {
+        Map<Enchantment, EnchantmentData> custom = new IdentityHashMap<>();
+        BY_ID.values().forEach(data -> custom.put(data.getEnchantment(), data));
+
+        Set<Enchantment> known = Collections.newSetFromMap(new IdentityHashMap<>());
+        Registry.ENCHANTMENT.forEach(enchantment -> {
+            if (!custom.containsKey(enchantment)) known.add(enchantment);
+        });
+
+        byEnchantment = custom;
+        vanilla = known;
+        CLASS_MASKS.clear();
+    }
+
+    /**
+     * Rarity, category and distribution are read from configs, so views are rebuilt after every (re)load.
+     */
+    private static void updateViews() {
+        views = RegistryViews.create(BY_ID.values(), ENCHANTS_MAP.keySet());
+    }
+
+    /**
+     * Builds symmetric conflict table of all custom and vanilla enchantments. Conflicts are read from configs,
+     * so it is rebuilt after every (re)load, same as views.
+     */
+    private void updateConflicts() {
+        // Server enchantments fall back to config conflicts while the matrix is built.
+        ConflictMatrix.clear();
+
+        Set<Enchantment> enchantments = Collections.newSetFromMap(new IdentityHashMap<>());
+        Registry.ENCHANTMENT.forEach(enchantments::add);
+        enchantments.addAll(byEnchantment.keySet());
+
+        EnchantNMS nms = this.plugin.getEnchantNMS();
+        Map<Enchantment, Integer> ids = new IdentityHashMap<>();
+        int size = 0;
+        for (Enchantment enchantment : enchantments) {
+            int id = nms.getEnchantmentId(enchantment);
+            if (id < 0) continue;
+
+            ids.put(enchantment, id);
+            size = Math.max(size, id + 1);
+        }
+
+        ConflictMatrix matrix = new ConflictMatrix(size);
+        List<Enchantment> indexed = new ArrayList<>(ids.keySet());
+        for (int first = 0; first < indexed.size(); first++) {
+            Enchantment enchantment = indexed.get(first);
+            for (int second = first; second < indexed.size(); second++) {
+                Enchantment other = indexed.get(second);
+                if (enchantment.conflictsWith(other) || other.conflictsWith(enchantment)) {
+                    matrix.setConflict(ids.get(enchantment), ids.get(other));
+                }
+            }
+        }
+
+        registryIds = ids;
+        ConflictMatrix.set(matrix);
+    }
+
+    /**
+     * Checks conflicts in both directions, using precomputed conflict table when possible.
+     */
+    public static boolean isConflicting(@NotNull Enchantment first, @NotNull Enchantment second) {
+        ConflictMatrix matrix = ConflictMatrix.get();
+        Integer firstId = registryIds.get(first);
+        Integer secondId = registryIds.get(second);
+        if (matrix == null || firstId == null || secondId == null || !matrix.contains(firstId) || !matrix.contains(secondId)) {
+            return first.conflictsWith(second) || second.conflictsWith(first);
+        }
+
+        return matrix.isConflicting(firstId, secondId);
+    }
+
+    @NotNull
+    public static RegistryViews getViews() {
+        return views;
+    }
+
+    /**
+     * Reloads settings of a single enchantment from its config. Other enchantments and listeners are not touched.
+     * Must be called on the main thread, so the new settings are applied at once for all event handlers. Async packet
+     * display does not read enchantment settings, it keeps using the display snapshot until it's updated here.
+     * <p>
+     * The config is tested on a detached instance first, so a broken config keeps the current settings in use.
+     */
+    public boolean reloadEnchantment(@NotNull EnchantmentData enchantmentData) {
+        if (!this.isLocked) return false;
+
+        long start = System.nanoTime();
+        Supplier<EnchantmentData> factory = this.factories.get(enchantmentData.getId());
+        if (factory != null && !this.load(factory.get())) {
+            this.plugin.error("Enchantment '" + enchantmentData.getId() + "' is not reloaded, current settings are kept.");
+            return false;
+        }
+
+        enchantmentData.clear();
+        boolean loaded = this.load(enchantmentData);
+        if (loaded) {
+            this.loadServerData(enchantmentData);
+        }
+
+        // Rebuild even if loading failed after all, settings are already changed then.
+        updateViews();
+        this.updateConflicts();
+        this.dispatchers.forEach(EventDispatcher::compile);
+        if (this.plugin.getEnchantManager() != null) {
+            this.plugin.getEnchantManager().onEnchantmentsReload();
+        }
+        if (!loaded) return false;
+
+        this.plugin.info("Reloaded enchantment '" + enchantmentData.getId() + "' in " + millis(start) + " ms.");
+        return true;
+    }
+
+    /**
+     * Loads enchantment configs, in parallel when enabled, then reads server data of loaded enchantments on the main thread.
+     * Listeners are not registered here, see {@link #registerListeners(EnchantmentData)}.
+     * @return Successfully loaded enchantments in the same order.
+     */
+    @NotNull
+    private List<EnchantmentData> loadAll(@NotNull List<EnchantmentData> list) {
+        List<EnchantmentData> loaded = this.loadConfigs(list);
+        loaded.forEach(this::loadServerData);
+        return loaded;
+    }
+
+    /**
+     * Loads configs of detached enchantment instances, live enchantments are not changed.
+     * @return Ids of enchantments that were loaded successfully.
+     */
+    @NotNull
+    public Set<String> loadDetached(boolean parallel) {
+        List<EnchantmentData> list = this.factories.values().stream().map(Supplier::get).toList();
+        return this.loadConfigs(list, parallel).stream().map(EnchantmentData::getId).collect(Collectors.toSet());
+    }
+
+    @NotNull
+    private List<EnchantmentData> loadConfigs(@NotNull List<EnchantmentData> list) {
+        return this.loadConfigs(list, Config.CORE_PARALLEL_LOADING.get());
+    }
+
+    @NotNull
+    private List<EnchantmentData> loadConfigs(@NotNull List<EnchantmentData> list, boolean parallel) {
+        List<String> errors = new ArrayList<>(list.size());
+
+        if (!parallel) {
+            list.forEach(data -> errors.add(this.tryLoad(data)));
+        }
+        else {
+            List<Future<String>> futures;
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                futures = list.stream().map(data -> executor.submit(() -> this.tryLoad(data))).toList();
+            }
+
+            // Executor is closed only when all tasks are completed.
+            futures.forEach(future -> errors.add(future.state() == Future.State.SUCCESS ? future.resultNow() : "Loading interrupted."));
+        }
+
+        List<EnchantmentData> loaded = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        for (int index = 0; index < list.size(); index++) {
+            String error = errors.get(index);
+            if (error == null) {
+                loaded.add(list.get(index));
+            }
+            else failed.add("'" + list.get(index).getId() + "' (" + error + ")");
+        }
+
+        if (!failed.isEmpty()) {
+            this.plugin.error("Could not load " + failed.size() + " enchantment(s), they are skipped: " + String.join(", ", failed));
+        }
+        return loaded;
+    }
+
+    private boolean load(@NotNull EnchantmentData enchantmentData) {
+        String error = this.tryLoad(enchantmentData);
+        if (error != null) {
+            this.plugin.error("Could not load '" + enchantmentData.getId() + "' enchantment: " + error);
+        }
+        return error == null;
+    }
+
+    /**
+     * @return Error description, or null if enchantment was loaded successfully.
+     */
+    @Nullable
+    private String tryLoad(@NotNull EnchantmentData enchantmentData) {
+        try {
+            return enchantmentData.load() ? null : "Invalid config.";
+        }
+        catch (Exception exception) {
+            return exception.getMessage() == null ? exception.getClass().getSimpleName() : exception.getMessage();
+        }
+    }
+
+    /**
+     * Server state can be accessed on the main thread only.
+     */
+    private void loadServerData(@NotNull EnchantmentData enchantmentData) {
+        if (enchantmentData instanceof AbstractEnchantmentData data) {
+            data.loadServerData();
+        }
+    }
+
+    /**
+     * Bukkit listeners must be registered on the main thread.
+     */
+    private void registerListeners(@NotNull EnchantmentData enchantmentData) {
+        if (enchantmentData instanceof AbstractEnchantmentData data) {
+            data.registerListeners();
+        }
+    }
+
+    private static long millis(long start) {
+        return millis(start, System.nanoTime());
+    }
+
+    private static long millis(long start, long end) {
+        return TimeUnit.NANOSECONDS.toMillis(end - start);
     }
 
     @NotNull
@@ -246,19 +539,12 @@ public class EnchantRegistry extends SimpleManager<EnchantsPlugin> {
 
     @NotNull
     public static <T extends EnchantmentData> Set<T> getEnchantments(@NotNull Class<T> clazz) {
-        Set<T> enchants = new HashSet<>();
-
-        ENCHANTS_MAP.getOrDefault(clazz, Collections.emptySet()).forEach(talent -> {
-            enchants.add(clazz.cast(talent));
-        });
-        return enchants;
+        return views.getByType(clazz);
     }
 
     @NotNull
     public static Set<EnchantmentData> getEnchantments(@NotNull Rarity rarity) {
-        return BY_ID.values().stream()
-            .filter(enchantmentData -> enchantmentData.getRarity() == rarity)
-            .collect(Collectors.toCollection(HashSet::new));
+        return views.getByRarity(rarity);
     }
 
     public static boolean isRegistered(@NotNull String id) {
@@ -275,13 +561,57 @@ public class EnchantRegistry extends SimpleManager<EnchantsPlugin> {
         return BY_KEY.get(key);
     }
 
+    @Nullable
+    public static EnchantmentData getByEnchantment(@NotNull Enchantment enchantment) {
+        EnchantmentData data = byEnchantment.get(enchantment);
+        if (data != null || vanilla.contains(enchantment)) return data;
+
+        // Unknown instance, could be created by other plugins.
+        return getByKey(enchantment.getKey());
+    }
+
+    /**
+     * Same as {@link Class#isInstance(Object)}, but checked against precomputed ordinal masks.
+     */
+    public static boolean isInstance(@NotNull EnchantmentData data, @NotNull Class<?> clazz) {
+        int ordinal = data.getOrdinal();
+        long[] mask = CLASS_MASKS.computeIfAbsent(clazz, EnchantRegistry::createClassMask);
+        int word = ordinal >> 6;
+        if (ordinal < 0 || word >= mask.length) return clazz.isInstance(data);
+
+        return (mask[word] & (1L << ordinal)) != 0L;
+    }
+
+    private static long[] createClassMask(@NotNull Class<?> clazz) {
+        EnchantmentData[] ordinals = byOrdinal;
+        long[] mask = new long[(ordinals.length + 63) >> 6];
+        for (int ordinal = 0; ordinal < ordinals.length; ordinal++) {
+            if (clazz.isInstance(ordinals[ordinal])) {
+                mask[ordinal >> 6] |= 1L << ordinal;
+            }
+        }
+        return mask;
+    }
+
+    @Nullable
+    public static EnchantmentData getByOrdinal(int ordinal) {
+        return ordinal < 0 || ordinal >= byOrdinal.length ? null : byOrdinal[ordinal];
+    }
+
+    public static int getOrdinalBound() {
+        return byOrdinal.length;
+    }
+
     @NotNull
     public static Set<EnchantmentData> getByRarity(@NotNull Rarity rarity) {
-        return getRegistered().stream().filter(data -> data.getRarity() == rarity).collect(Collectors.toSet());
+        return views.getByRarity(rarity);
     }
 
+    /**
+     * @return Immutable view of all registered enchantments.
+     */
     @NotNull
     public static Collection<EnchantmentData> getRegistered() {
-        return new HashSet<>(BY_ID.values());
+        return views.getAll();
     }
 }
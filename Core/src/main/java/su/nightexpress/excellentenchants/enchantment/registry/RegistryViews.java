@@ -0,0 +1,182 @@
+package su.nightexpress.excellentenchants.enchantment.registry;
+
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.enchantments.EnchantmentTarget;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.loot.LootTable;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.api.DistributionWay;
+import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+import su.nightexpress.excellentenchants.api.enchantment.Rarity;
+import su.nightexpress.excellentenchants.enchantment.data.CustomDistribution;
+import su.nightexpress.excellentenchants.enchantment.util.AliasTable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable groupings of registered enchantments. Built once registry is locked and replaced as a whole on reload.
+ */
+public class RegistryViews {
+
+    public static final RegistryViews EMPTY = new RegistryViews(Set.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
+    private final Set<EnchantmentData>                                    all;
+    private final Map<Class<?>, Set<?>>                                   byType;
+    private final Map<Rarity, Set<EnchantmentData>>                       byRarity;
+    private final Map<EnchantmentTarget, Set<EnchantmentData>>            byCategory;
+    private final Map<DistributionWay, Set<EnchantmentData>>              byWay;
+    private final Map<DistributionWay, Map<Rarity, Set<EnchantmentData>>> byWayRarity;
+    private final Map<DistributionWay, Map<Rarity, AliasTable<EnchantmentData>>> tables;
+    private final Map<DistributionWay, Map<Material, Map<Rarity, AliasTable<EnchantmentData>>>> itemTables; // Filled lazily.
+    private final Map<NamespacedKey, Set<EnchantmentData>> byLootTable; // Filled lazily.
+
+    private RegistryViews(@NotNull Set<EnchantmentData> all,
+                          @NotNull Map<Class<?>, Set<?>> byType,
+                          @NotNull Map<Rarity, Set<EnchantmentData>> byRarity,
+                          @NotNull Map<EnchantmentTarget, Set<EnchantmentData>> byCategory,
+                          @NotNull Map<DistributionWay, Set<EnchantmentData>> byWay,
+                          @NotNull Map<DistributionWay, Map<Rarity, Set<EnchantmentData>>> byWayRarity,
+                          @NotNull Map<DistributionWay, Map<Rarity, AliasTable<EnchantmentData>>> tables) {
+        this.all = all;
+        this.byType = byType;
+        this.byRarity = byRarity;
+        this.byCategory = byCategory;
+        this.byWay = byWay;
+        this.byWayRarity = byWayRarity;
+        this.tables = tables;
+        this.itemTables = new ConcurrentHashMap<>();
+        this.byLootTable = new ConcurrentHashMap<>();
+    }
+
+    @NotNull
+    static RegistryViews create(@NotNull Collection<EnchantmentData> registered, @NotNull Set<Class<? extends EnchantmentData>> types) {
+        Map<Class<?>, Set<?>> byType = new HashMap<>();
+        types.forEach(type -> byType.put(type, Set.copyOf(registered.stream().filter(type::isInstance).toList())));
+
+        Map<Rarity, Set<EnchantmentData>> byRarity = new EnumMap<>(Rarity.class);
+        Map<EnchantmentTarget, Set<EnchantmentData>> byCategory = new EnumMap<>(EnchantmentTarget.class);
+        Map<DistributionWay, Set<EnchantmentData>> byWay = new EnumMap<>(DistributionWay.class);
+        Map<DistributionWay, Map<Rarity, Set<EnchantmentData>>> byWayRarity = new EnumMap<>(DistributionWay.class);
+
+        registered.forEach(data -> {
+            byRarity.computeIfAbsent(data.getRarity(), k -> new HashSet<>()).add(data);
+            byCategory.computeIfAbsent(data.getCategory(), k -> new HashSet<>()).add(data);
+
+            if (!(data.getDistributionOptions() instanceof CustomDistribution distribution)) return;
+
+            for (DistributionWay way : DistributionWay.values()) {
+                if (!distribution.isDistributable(way)) continue;
+
+                byWay.computeIfAbsent(way, k -> new HashSet<>()).add(data);
+                byWayRarity.computeIfAbsent(way, k -> new EnumMap<>(Rarity.class)).computeIfAbsent(data.getRarity(), k -> new HashSet<>()).add(data);
+            }
+        });
+
+        Map<DistributionWay, Map<Rarity, Set<EnchantmentData>>> byWayRarityCopy = new EnumMap<>(DistributionWay.class);
+        Map<DistributionWay, Map<Rarity, AliasTable<EnchantmentData>>> tables = new EnumMap<>(DistributionWay.class);
+        byWayRarity.forEach((way, map) -> {
+            byWayRarityCopy.put(way, immutable(map));
+
+            Map<Rarity, AliasTable<EnchantmentData>> wayTables = new EnumMap<>(Rarity.class);
+            map.forEach((rarity, set) -> wayTables.put(rarity, AliasTable.create(sorted(set), data -> getWeight(data, way))));
+            tables.put(way, Collections.unmodifiableMap(wayTables));
+        });
+
+        return new RegistryViews(Set.copyOf(registered), Map.copyOf(byType), immutable(byRarity), immutable(byCategory),
+            immutable(byWay), Collections.unmodifiableMap(byWayRarityCopy), Collections.unmodifiableMap(tables));
+    }
+
+    @NotNull
+    private static <K extends Enum<K>> Map<K, Set<EnchantmentData>> immutable(@NotNull Map<K, Set<EnchantmentData>> map) {
+        map.replaceAll((key, set) -> Set.copyOf(set));
+        return Collections.unmodifiableMap(map);
+    }
+
+    // Stable order, so the same seed picks the same enchantments after a reload.
+    @NotNull
+    private static List<EnchantmentData> sorted(@NotNull Set<EnchantmentData> set) {
+        return set.stream().sorted(Comparator.comparing(EnchantmentData::getId)).toList();
+    }
+
+    private static double getWeight(@NotNull EnchantmentData data, @NotNull DistributionWay way) {
+        return data.getDistributionOptions() instanceof CustomDistribution distribution ? distribution.getWeight(way) : 0D;
+    }
+
+    @NotNull
+    public Set<EnchantmentData> getAll() {
+        return this.all;
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <T extends EnchantmentData> Set<T> getByType(@NotNull Class<T> type) {
+        return (Set<T>) this.byType.getOrDefault(type, Set.of());
+    }
+
+    @NotNull
+    public Set<EnchantmentData> getByRarity(@NotNull Rarity rarity) {
+        return this.byRarity.getOrDefault(rarity, Set.of());
+    }
+
+    @NotNull
+    public Set<EnchantmentData> getByCategory(@NotNull EnchantmentTarget category) {
+        return this.byCategory.getOrDefault(category, Set.of());
+    }
+
+    /**
+     * @return Enchantments with custom distribution that can be obtained by the given way.
+     */
+    @NotNull
+    public Set<EnchantmentData> getByWay(@NotNull DistributionWay way) {
+        return this.byWay.getOrDefault(way, Set.of());
+    }
+
+    /**
+     * @return Enchantments that can be generated in loot of the given loot table.
+     */
+    @NotNull
+    public Set<EnchantmentData> getByLootTable(@NotNull LootTable table) {
+        return this.byLootTable.computeIfAbsent(table.getKey(), k -> Set.copyOf(this.getByWay(DistributionWay.LOOT_GENERATION).stream()
+            .filter(data -> ((CustomDistribution) data.getDistributionOptions()).isGoodLootTable(table))
+            .toList()));
+    }
+
+    @NotNull
+    public Set<EnchantmentData> getByWay(@NotNull DistributionWay way, @NotNull Rarity rarity) {
+        return this.byWayRarity.getOrDefault(way, Map.of()).getOrDefault(rarity, Set.of());
+    }
+
+    /**
+     * @return Weighted sampling table of enchantments that can be obtained by the given way with the given rarity.
+     */
+    @NotNull
+    public AliasTable<EnchantmentData> getTable(@NotNull DistributionWay way, @NotNull Rarity rarity) {
+        return this.tables.getOrDefault(way, Map.of()).getOrDefault(rarity, AliasTable.empty());
+    }
+
+    /**
+     * Same as {@link #getTable(DistributionWay, Rarity)}, but only with enchantments that can be applied on the given
+     * item type. Enchantments already present on the item and the enchantment limit are not checked here.
+     */
+    @NotNull
+    public AliasTable<EnchantmentData> getTable(@NotNull DistributionWay way, @NotNull Rarity rarity, @NotNull Material material) {
+        return this.itemTables.computeIfAbsent(way, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(material, k -> this.createItemTables(way, material))
+            .getOrDefault(rarity, AliasTable.empty());
+    }
+
+    @NotNull
+    private Map<Rarity, AliasTable<EnchantmentData>> createItemTables(@NotNull DistributionWay way, @NotNull Material material) {
+        // Plain item of this type has no enchantments, so only the item type and category settings are checked.
+        ItemStack item = new ItemStack(material);
+
+        Map<Rarity, AliasTable<EnchantmentData>> map = new EnumMap<>(Rarity.class);
+        this.tables.getOrDefault(way, Map.of()).forEach((rarity, table) -> {
+            List<EnchantmentData> eligible = table.getItems().stream().filter(data -> data.getEnchantment().canEnchantItem(item)).toList();
+            map.put(rarity, AliasTable.create(eligible, data -> getWeight(data, way)));
+        });
+        return Collections.unmodifiableMap(map);
+    }
+}
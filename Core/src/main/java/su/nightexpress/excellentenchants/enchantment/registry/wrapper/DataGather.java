@@ -8,12 +8,17 @@ import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+import su.nightexpress.excellentenchants.enchantment.metrics.MetricHook;
 import su.nightexpress.excellentenchants.enchantment.util.EnchantUtils;
+import su.nightexpress.excellentenchants.enchantment.util.EquipmentSnapshot;
 
 import java.util.Map;
 
 public abstract class DataGather<E extends Event, T extends EnchantmentData> {
 
+    @NotNull
+    public abstract MetricHook getHook();
+
     @Nullable
     public abstract LivingEntity getEntity(@NotNull E event);
 
@@ -22,9 +27,16 @@ public abstract class DataGather<E extends Event, T extends EnchantmentData> {
 
     public abstract boolean checkPriority(@NotNull T enchant, @NotNull EventPriority priority);
 
+    /**
+     * @param snapshot Validated equipment snapshot of the entity, or null when equipment cache is disabled.
+     */
     @NotNull
-    public Map<ItemStack, Map<T, Integer>> getEnchants(@NotNull E event, @NotNull Class<T> enchantClass, @NotNull LivingEntity entity) {
-        return EnchantUtils.getEquipped(entity, enchantClass, this.getEnchantSlots(event));
+    public Map<ItemStack, Map<T, Integer>> getEnchants(@NotNull E event, @NotNull Class<T> enchantClass, @NotNull LivingEntity entity,
+                                                       @Nullable EquipmentSnapshot snapshot) {
+        if (snapshot == null) {
+            return EnchantUtils.getEquipped(entity, enchantClass, this.getEnchantSlots(event));
+        }
+        return snapshot.getEnchants(enchantClass, this.getEnchantSlots(event));
     }
 
     public abstract boolean useEnchant(@NotNull E event, @NotNull LivingEntity entity, @NotNull ItemStack item, @NotNull T enchant, int level);
@@ -17,8 +17,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import su.nightexpress.excellentenchants.api.enchantment.data.ArrowData;
 import su.nightexpress.excellentenchants.api.enchantment.type.*;
+import su.nightexpress.excellentenchants.enchantment.metrics.MetricHook;
 import su.nightexpress.excellentenchants.enchantment.util.EnchantUtils;
 import su.nightexpress.excellentenchants.enchantment.util.EnchantedProjectile;
+import su.nightexpress.excellentenchants.enchantment.util.EquipmentSnapshot;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -28,6 +30,12 @@ public class DataGathers {
 
     public static final DataGather<BlockBreakEvent, BlockBreakEnchant> BLOCK_BREAK = new DataGather<>() {
 
+        @Override
+        @NotNull
+        public MetricHook getHook() {
+            return MetricHook.BREAK;
+        }
+
         @Override
         @NotNull
         public LivingEntity getEntity(@NotNull BlockBreakEvent event) {
@@ -53,6 +61,12 @@ public class DataGathers {
 
     public static final DataGather<BlockDropItemEvent, BlockDropEnchant> BLOCK_DROP = new DataGather<>() {
 
+        @Override
+        @NotNull
+        public MetricHook getHook() {
+            return MetricHook.DROP;
+        }
+
         @Override
         @NotNull
         public LivingEntity getEntity(@NotNull BlockDropItemEvent event) {
@@ -78,6 +92,12 @@ public class DataGathers {
 
     public static final DataGather<EntityShootBowEvent, BowEnchant> BOW_SHOOT = new DataGather<>() {
 
+        @Override
+        @NotNull
+        public MetricHook getHook() {
+            return MetricHook.SHOOT;
+        }
+
         @Override
         @NotNull
         public LivingEntity getEntity(@NotNull EntityShootBowEvent event) {
@@ -115,6 +135,12 @@ public class DataGathers {
 
     public static final DataGather<ProjectileHitEvent, BowEnchant> PROJECTILE_HIT = new DataGather<>() {
 
+        @Override
+        @NotNull
+        public MetricHook getHook() {
+            return MetricHook.HIT;
+        }
+
         @Override
         @Nullable
         public LivingEntity getEntity(@NotNull ProjectileHitEvent event) {
@@ -134,7 +160,8 @@ public class DataGathers {
 
         @NotNull
         @Override
-        public Map<ItemStack, Map<BowEnchant, Integer>> getEnchants(@NotNull ProjectileHitEvent event, @NotNull Class<BowEnchant> enchantClass, @NotNull LivingEntity entity) {
+        public Map<ItemStack, Map<BowEnchant, Integer>> getEnchants(@NotNull ProjectileHitEvent event, @NotNull Class<BowEnchant> enchantClass, @NotNull LivingEntity entity,
+                                                               @Nullable EquipmentSnapshot snapshot) {
             EnchantedProjectile enchantedProjectile = EnchantUtils.getEnchantedProjectile(event.getEntity());
             if (enchantedProjectile == null) return Collections.emptyMap();
 
@@ -154,6 +181,12 @@ public class DataGathers {
 
     public static final DataGather<EntityDamageByEntityEvent, BowEnchant> ENTITY_DAMAGE_SHOOT = new DataGather<>() {
 
+        @Override
+        @NotNull
+        public MetricHook getHook() {
+            return MetricHook.ARROW_DAMAGE;
+        }
+
         @Override
         @Nullable
         public LivingEntity getEntity(@NotNull EntityDamageByEntityEvent event) {
@@ -176,7 +209,8 @@ public class DataGathers {
 
         @NotNull
         @Override
-        public Map<ItemStack, Map<BowEnchant, Integer>> getEnchants(@NotNull EntityDamageByEntityEvent event, @NotNull Class<BowEnchant> enchantClass, @NotNull LivingEntity entity) {
+        public Map<ItemStack, Map<BowEnchant, Integer>> getEnchants(@NotNull EntityDamageByEntityEvent event, @NotNull Class<BowEnchant> enchantClass, @NotNull LivingEntity entity,
+                                                               @Nullable EquipmentSnapshot snapshot) {
             if (!(event.getDamager() instanceof Projectile projectile)) return Collections.emptyMap();
 
             EnchantedProjectile enchantedProjectile = EnchantUtils.getEnchantedProjectile(projectile);
@@ -201,6 +235,12 @@ public class DataGathers {
 
     public static final DataGather<EntityDamageByEntityEvent, CombatEnchant> ENTITY_DAMAGE_ATTACK = new DataGather<>() {
 
+        @Override
+        @NotNull
+        public MetricHook getHook() {
+            return MetricHook.ATTACK;
+        }
+
         @Override
         @Nullable
         public LivingEntity getEntity(@NotNull EntityDamageByEntityEvent event) {
@@ -232,6 +272,12 @@ public class DataGathers {
 
     public static final DataGather<EntityDamageByEntityEvent, CombatEnchant> ENTITY_DAMAGE_DEFENSE = new DataGather<>() {
 
+        @Override
+        @NotNull
+        public MetricHook getHook() {
+            return MetricHook.PROTECT;
+        }
+
         @Override
         @Nullable
         public LivingEntity getEntity(@NotNull EntityDamageByEntityEvent event) {
@@ -261,6 +307,12 @@ public class DataGathers {
 
     public static final DataGather<EntityDeathEvent, DeathEnchant> ENTITY_KILL = new DataGather<>() {
 
+        @Override
+        @NotNull
+        public MetricHook getHook() {
+            return MetricHook.KILL;
+        }
+
         @Override
         @Nullable
         public LivingEntity getEntity(@NotNull EntityDeathEvent event) {
@@ -288,6 +340,12 @@ public class DataGathers {
 
     public static final DataGather<EntityDeathEvent, DeathEnchant> ENTITY_DEATH = new DataGather<>() {
 
+        @Override
+        @NotNull
+        public MetricHook getHook() {
+            return MetricHook.DEATH;
+        }
+
         @Override
         @NotNull
         public LivingEntity getEntity(@NotNull EntityDeathEvent event) {
@@ -313,6 +371,12 @@ public class DataGathers {
 
     public static final DataGather<EntityResurrectEvent, DeathEnchant> ENTITY_RESURRECT = new DataGather<>() {
 
+        @Override
+        @NotNull
+        public MetricHook getHook() {
+            return MetricHook.RESURRECT;
+        }
+
         @Override
         @NotNull
         public LivingEntity getEntity(@NotNull EntityResurrectEvent event) {
@@ -338,6 +402,12 @@ public class DataGathers {
 
     public static final DataGather<PlayerFishEvent, FishingEnchant> FISHING = new DataGather<>() {
 
+        @Override
+        @NotNull
+        public MetricHook getHook() {
+            return MetricHook.FISHING;
+        }
+
         @Override
         @NotNull
         public LivingEntity getEntity(@NotNull PlayerFishEvent event) {
@@ -363,6 +433,12 @@ public class DataGathers {
 
     public static final DataGather<PlayerInteractEvent, InteractEnchant> INTERACT = new DataGather<>() {
 
+        @Override
+        @NotNull
+        public MetricHook getHook() {
+            return MetricHook.INTERACT;
+        }
+
         @NotNull
         @Override
         public LivingEntity getEntity(@NotNull PlayerInteractEvent event) {
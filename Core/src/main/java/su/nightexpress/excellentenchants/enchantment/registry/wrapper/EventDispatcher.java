@@ -0,0 +1,113 @@
+package su.nightexpress.excellentenchants.enchantment.registry.wrapper;
+
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+import su.nightexpress.excellentenchants.enchantment.registry.EnchantRegistry;
+import su.nightexpress.excellentenchants.enchantment.util.EquipmentSnapshot;
+
+import java.util.*;
+
+public class EventDispatcher<E extends Event, T extends EnchantmentData> {
+
+    private final EnchantsPlugin                          plugin;
+    private final Class<E>                                eventClass;
+    private final Class<T>                                enchantClass;
+    private final DataGather<E, T>                        dataGather;
+    private final Map<EventPriority, Set<T>>              enchantsByPriority;
+    private final Map<EventPriority, WrappedEvent<E, T>>  listeners;
+
+    public EventDispatcher(@NotNull EnchantsPlugin plugin,
+                           @NotNull Class<E> eventClass,
+                           @NotNull Class<T> enchantClass,
+                           @NotNull DataGather<E, T> dataGather) {
+        this.plugin = plugin;
+        this.eventClass = eventClass;
+        this.enchantClass = enchantClass;
+        this.dataGather = dataGather;
+        this.enchantsByPriority = new EnumMap<>(EventPriority.class);
+        this.listeners = new EnumMap<>(EventPriority.class);
+    }
+
+    public void compile() {
+        this.enchantsByPriority.clear();
+
+        Set<T> enchants = EnchantRegistry.getEnchantments(this.enchantClass);
+        boolean hasCharges = enchants.stream().anyMatch(EnchantmentData::isChargesEnabled);
+
+        for (EventPriority priority : EventPriority.values()) {
+            Set<T> bucket = new HashSet<>();
+            enchants.forEach(enchant -> {
+                if (this.dataGather.checkPriority(enchant, priority)) {
+                    bucket.add(enchant);
+                }
+            });
+            if (!bucket.isEmpty()) {
+                this.enchantsByPriority.put(priority, bucket);
+            }
+
+            // MONITOR is also used to refresh charges display, so keep it when there are enchants with charges.
+            boolean needListener = !bucket.isEmpty() || (priority == EventPriority.MONITOR && hasCharges);
+            if (needListener) {
+                this.register(priority);
+            }
+            else this.unregister(priority);
+        }
+    }
+
+    public void shutdown() {
+        this.listeners.values().forEach(HandlerList::unregisterAll);
+        this.listeners.clear();
+        this.enchantsByPriority.clear();
+    }
+
+    private void register(@NotNull EventPriority priority) {
+        if (this.listeners.containsKey(priority)) return;
+
+        WrappedEvent<E, T> event = new WrappedEvent<>(this.plugin, priority, this.eventClass, this.enchantClass, this.dataGather, this);
+        this.plugin.getPluginManager().registerEvent(this.eventClass, event, priority, event, this.plugin, true);
+        this.listeners.put(priority, event);
+    }
+
+    private void unregister(@NotNull EventPriority priority) {
+        WrappedEvent<E, T> event = this.listeners.remove(priority);
+        if (event != null) {
+            HandlerList.unregisterAll(event);
+        }
+    }
+
+    public boolean isListening(@NotNull EventPriority priority) {
+        return this.listeners.containsKey(priority);
+    }
+
+    public boolean isDispatched(@NotNull T enchant, @NotNull EventPriority priority) {
+        Set<T> bucket = this.enchantsByPriority.get(priority);
+        return bucket != null && bucket.contains(enchant);
+    }
+
+    /**
+     * Resolves event enchantments for a single priority listener. Result is not shared between priorities, because
+     * lower priorities may change equipment during the event. Repeated lookups are served by the equipment snapshot,
+     * which is revalidated for every listener.
+     */
+    @NotNull
+    public Map<ItemStack, Map<T, Integer>> getEnchants(@NotNull E event, @NotNull LivingEntity entity, @Nullable EquipmentSnapshot snapshot) {
+        return this.dataGather.getEnchants(event, this.enchantClass, entity, snapshot);
+    }
+
+    @NotNull
+    public Class<E> getEventClass() {
+        return eventClass;
+    }
+
+    @NotNull
+    public Class<T> getEnchantClass() {
+        return enchantClass;
+    }
+}
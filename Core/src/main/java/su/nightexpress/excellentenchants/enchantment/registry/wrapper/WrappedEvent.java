@@ -9,7 +9,11 @@ import org.bukkit.plugin.EventExecutor;
 import org.jetbrains.annotations.NotNull;
 import su.nightexpress.excellentenchants.EnchantsPlugin;
 import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+import su.nightexpress.excellentenchants.config.Config;
+import su.nightexpress.excellentenchants.enchantment.metrics.EnchantMetrics;
+import su.nightexpress.excellentenchants.enchantment.util.ChargeLedger;
 import su.nightexpress.excellentenchants.enchantment.util.EnchantUtils;
+import su.nightexpress.excellentenchants.enchantment.util.EquipmentSnapshot;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -20,17 +24,20 @@ public class WrappedEvent<E extends Event, T extends EnchantmentData> implements
     private final Class<E>          eventClass;
     private final Class<T>          enchantClass;
     private final DataGather<E, T>  dataGather;
+    private final EventDispatcher<E, T> dispatcher;
 
     public WrappedEvent(@NotNull EnchantsPlugin plugin,
                         @NotNull EventPriority priority,
                         @NotNull Class<E> eventClass,
                         @NotNull Class<T> enchantClass,
-                        @NotNull DataGather<E, T> dataGather) {
+                        @NotNull DataGather<E, T> dataGather,
+                        @NotNull EventDispatcher<E, T> dispatcher) {
         //this.plugin = plugin;
         this.priority = priority;
         this.eventClass = eventClass;
         this.enchantClass = enchantClass;
         this.dataGather = dataGather;
+        this.dispatcher = dispatcher;
     }
 
     @Override
@@ -42,22 +49,35 @@ public class WrappedEvent<E extends Event, T extends EnchantmentData> implements
         if (entity == null) return;
 
         Player player = entity instanceof Player user ? user : null;
+        EquipmentSnapshot snapshot = Config.CORE_EQUIPMENT_CACHE_ENABLED.get() ? EnchantUtils.getEquipmentSnapshot(entity) : null;
+        ChargeLedger ledger = new ChargeLedger(snapshot);
         AtomicBoolean needUpdate = new AtomicBoolean(false);
+        boolean metrics = EnchantMetrics.isEnabled();
 
-        this.dataGather.getEnchants(event, this.enchantClass, entity).forEach((item, enchants) -> {
+        this.dispatcher.getEnchants(event, entity, snapshot).forEach((item, enchants) -> {
             enchants.forEach((enchant, level) -> {
                 if (enchant.isChargesEnabled() && this.priority == EventPriority.MONITOR) needUpdate.set(true);
 
-                if (!this.dataGather.checkPriority(enchant, this.priority)) return;
+                if (!this.dispatcher.isDispatched(enchant, this.priority)) return;
                 if (!enchant.isAvailableToUse(entity)) return;
-                if (enchant.isOutOfCharges(item)) return;
-                if (this.dataGather.useEnchant(event, entity, item, enchant, level)) {
-                    enchant.consumeChargesNoUpdate(item, level);
+                if (ledger.isOutOfCharges(item, enchant)) return;
+
+                long start = metrics ? System.nanoTime() : 0L;
+                boolean used = this.dataGather.useEnchant(event, entity, item, enchant, level);
+                if (metrics) {
+                    EnchantMetrics.record(this.dataGather.getHook(), enchant, System.nanoTime() - start, used);
+                }
+
+                if (used) {
+                    ledger.consume(item, enchant, level);
+                    if (metrics) EnchantMetrics.recordCharges(this.dataGather.getHook(), enchant);
                 }
             });
 
+            ledger.flush(item);
+
             if (needUpdate.get() && player != null) {
-                EnchantUtils.updateDisplay(item);
+                EnchantUtils.queueDisplay(item);
             }
         });
     }
@@ -0,0 +1,146 @@
+package su.nightexpress.excellentenchants.enchantment.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted random selection in constant time (Vose's alias method).
+ * Items with zero or negative weight are not included.
+ */
+public class AliasTable<T> {
+
+    private static final AliasTable<?> EMPTY = new AliasTable<>(List.of(), new double[0], new double[0], new int[0]);
+
+    private final List<T>  items;
+    private final double[] weights;
+    private final double[] probability;
+    private final int[]    alias;
+
+    private AliasTable(@NotNull List<T> items, double[] weights, double[] probability, int[] alias) {
+        this.items = items;
+        this.weights = weights;
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T> AliasTable<T> empty() {
+        return (AliasTable<T>) EMPTY;
+    }
+
+    @NotNull
+    public static <T> AliasTable<T> create(@NotNull Collection<T> source, @NotNull ToDoubleFunction<T> weigher) {
+        List<T> items = new ArrayList<>();
+        List<Double> weightList = new ArrayList<>();
+        source.forEach(item -> {
+            double weight = weigher.applyAsDouble(item);
+            if (weight <= 0D || Double.isNaN(weight)) return;
+
+            items.add(item);
+            weightList.add(weight);
+        });
+        if (items.isEmpty()) return empty();
+
+        int size = items.size();
+        double[] weights = weightList.stream().mapToDouble(Double::doubleValue).toArray();
+        double total = 0D;
+        for (double weight : weights) total += weight;
+
+        double[] probability = new double[size];
+        int[] alias = new int[size];
+        double[] scaled = new double[size];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+
+        for (int index = 0; index < size; index++) {
+            scaled[index] = weights[index] * size / total;
+            (scaled[index] < 1D ? small : large).push(index);
+        }
+
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+
+            probability[less] = scaled[less];
+            alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1D;
+            (scaled[more] < 1D ? small : large).push(more);
+        }
+
+        // Leftovers are 1 with rounding errors.
+        while (!large.isEmpty()) probability[large.pop()] = 1D;
+        while (!small.isEmpty()) probability[small.pop()] = 1D;
+
+        return new AliasTable<>(List.copyOf(items), weights, probability, alias);
+    }
+
+    @Nullable
+    public T sample(@NotNull RandomGenerator random) {
+        if (this.isEmpty()) return null;
+
+        int column = random.nextInt(this.items.size());
+        return random.nextDouble() < this.probability[column] ? this.items.get(column) : this.items.get(this.alias[column]);
+    }
+
+    /**
+     * Samples an item that passes the filter. Uses rejection first, which keeps the weights of accepted items,
+     * and falls back to a linear scan over accepted items when most of the table is filtered out.
+     */
+    @Nullable
+    public T sample(@NotNull RandomGenerator random, @NotNull Predicate<T> filter, int attempts) {
+        if (this.isEmpty()) return null;
+
+        for (int attempt = 0; attempt < attempts; attempt++) {
+            T item = this.sample(random);
+            if (item != null && filter.test(item)) return item;
+        }
+
+        double total = 0D;
+        double[] accepted = new double[this.items.size()];
+        for (int index = 0; index < accepted.length; index++) {
+            if (filter.test(this.items.get(index))) {
+                accepted[index] = this.weights[index];
+                total += accepted[index];
+            }
+        }
+        if (total <= 0D) return null;
+
+        double roll = random.nextDouble() * total;
+        for (int index = 0; index < accepted.length; index++) {
+            if (accepted[index] <= 0D) continue;
+
+            roll -= accepted[index];
+            if (roll < 0D) return this.items.get(index);
+        }
+
+        // Rounding errors, pick the last accepted one.
+        for (int index = accepted.length - 1; index >= 0; index--) {
+            if (accepted[index] > 0D) return this.items.get(index);
+        }
+        return null;
+    }
+
+    @NotNull
+    public List<T> getItems() {
+        return this.items;
+    }
+
+    public int size() {
+        return this.items.size();
+    }
+
+    public boolean isEmpty() {
+        return this.items.isEmpty();
+    }
+}
@@ -0,0 +1,102 @@
+package su.nightexpress.excellentenchants.enchantment.util;
+
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Collects enchantment charge reads and writes done during a single event dispatch.
+ * Charges are read once per item, consumed in memory and written back with a single meta update per item.
+ */
+public class ChargeLedger {
+
+    private final EquipmentSnapshot     snapshot;
+    private final Map<ItemStack, Entry> entries;
+
+    public ChargeLedger(@Nullable EquipmentSnapshot snapshot) {
+        this.snapshot = snapshot;
+        this.entries = new IdentityHashMap<>();
+    }
+
+    public int getCharges(@NotNull ItemStack item, @NotNull EnchantmentData data) {
+        if (!data.isChargesEnabled()) return -1;
+
+        Entry entry = this.getEntry(item);
+        Integer charges = entry.charges.get(data);
+        if (charges == null) {
+            charges = this.readCharges(item, entry, data);
+            entry.charges.put(data, charges);
+        }
+        return charges;
+    }
+
+    public boolean isOutOfCharges(@NotNull ItemStack item, @NotNull EnchantmentData data) {
+        return this.getCharges(item, data) == 0;
+    }
+
+    /**
+     * Same as {@link EnchantmentData#consumeChargesNoUpdate(ItemStack, int)}, but item is not changed until {@link #flush(ItemStack)}.
+     */
+    public void consume(@NotNull ItemStack item, @NotNull EnchantmentData data, int level) {
+        if (!data.isChargesEnabled()) return;
+
+        int charges = this.getCharges(item, data);
+        int consumeAmount = data.getChargesConsumeAmount(level);
+        int amount = charges < consumeAmount ? 0 : Math.max(0, charges - consumeAmount);
+
+        Entry entry = this.getEntry(item);
+        entry.charges.put(data, Math.min(amount, data.getChargesMax(level)));
+        entry.levels.put(data, level);
+    }
+
+    /**
+     * Writes consumed charges to the item.
+     * @return true if item was changed.
+     */
+    public boolean flush(@NotNull ItemStack item) {
+        Entry entry = this.entries.remove(item);
+        if (entry == null || entry.levels.isEmpty()) return false;
+
+        // Use fresh meta, enchantment effects may change the item during the event.
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return false;
+
+        entry.levels.forEach((data, level) -> data.setCharges(meta, level, entry.charges.get(data)));
+        item.setItemMeta(meta);
+        if (this.snapshot != null) {
+            this.snapshot.clearCharges(item);
+        }
+        else EnchantUtils.invalidateCharges(item);
+        return true;
+    }
+
+    private int readCharges(@NotNull ItemStack item, @NotNull Entry entry, @NotNull EnchantmentData data) {
+        if (this.snapshot != null && this.snapshot.contains(item)) {
+            return this.snapshot.getCharges(item, data);
+        }
+
+        if (entry.meta == null) {
+            entry.meta = item.getItemMeta();
+        }
+        return entry.meta == null ? 0 : data.getCharges(entry.meta);
+    }
+
+    @NotNull
+    private Entry getEntry(@NotNull ItemStack item) {
+        return this.entries.computeIfAbsent(item, k -> new Entry());
+    }
+
+    private static class Entry {
+
+        private final Map<EnchantmentData, Integer> charges = new HashMap<>();
+        private final Map<EnchantmentData, Integer> levels  = new HashMap<>(); // Consumed enchantments.
+
+        private ItemMeta meta;
+    }
+}
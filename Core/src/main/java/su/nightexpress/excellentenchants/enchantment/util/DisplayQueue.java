@@ -0,0 +1,95 @@
+package su.nightexpress.excellentenchants.enchantment.util;
+
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects items that need their enchantment lore refreshed and renders each of them once per tick.
+ * Items are tracked by identity, so only live (mirrored) item stacks should be queued.
+ */
+public class DisplayQueue {
+
+    private static final Set<ItemStack>        DIRTY_ITEMS = Collections.newSetFromMap(new IdentityHashMap<>());
+    private static final Map<Object, Runnable> KEYED_TASKS = new LinkedHashMap<>();
+
+    private static final LongAdder REQUESTED = new LongAdder();
+    private static final LongAdder RENDERED  = new LongAdder();
+    private static final LongAdder COALESCED = new LongAdder();
+
+    /**
+     * Marks item to be rendered on the next tick.
+     */
+    public static void queue(@NotNull ItemStack item) {
+        REQUESTED.increment();
+        if (!DIRTY_ITEMS.add(item)) {
+            COALESCED.increment();
+        }
+    }
+
+    /**
+     * Schedules display task for the next tick. Tasks with the same key replace each other.
+     */
+    public static void queue(@NotNull Object key, @NotNull Runnable task) {
+        REQUESTED.increment();
+        if (KEYED_TASKS.put(key, task) != null) {
+            COALESCED.increment();
+        }
+    }
+
+    public static void drain() {
+        if (!DIRTY_ITEMS.isEmpty()) {
+            List<ItemStack> items = new ArrayList<>(DIRTY_ITEMS);
+            DIRTY_ITEMS.clear();
+
+            items.forEach(item -> {
+                if (item.getType().isAir()) return;
+
+                EnchantUtils.renderDisplay(item);
+            });
+        }
+
+        if (!KEYED_TASKS.isEmpty()) {
+            List<Runnable> tasks = new ArrayList<>(KEYED_TASKS.values());
+            KEYED_TASKS.clear();
+            tasks.forEach(Runnable::run);
+        }
+    }
+
+    public static void clear() {
+        DIRTY_ITEMS.clear();
+        KEYED_TASKS.clear();
+    }
+
+    static void countRequest() {
+        REQUESTED.increment();
+    }
+
+    static void countRender() {
+        RENDERED.increment();
+    }
+
+    public static int getPending() {
+        return DIRTY_ITEMS.size() + KEYED_TASKS.size();
+    }
+
+    public static long getRequested() {
+        return REQUESTED.sum();
+    }
+
+    public static long getRendered() {
+        return RENDERED.sum();
+    }
+
+    public static long getCoalesced() {
+        return COALESCED.sum();
+    }
+
+    public static void resetCounters() {
+        REQUESTED.reset();
+        RENDERED.reset();
+        COALESCED.reset();
+    }
+}
@@ -0,0 +1,162 @@
+package su.nightexpress.excellentenchants.enchantment.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+import su.nightexpress.excellentenchants.config.Config;
+import su.nightexpress.excellentenchants.enchantment.registry.EnchantRegistry;
+import su.nightexpress.nightcore.util.PDCUtil;
+import su.nightexpress.nightcore.util.text.NightMessage;
+
+import java.util.*;
+
+import static su.nightexpress.excellentenchants.Placeholders.GENERIC_AMOUNT;
+
+/**
+ * Immutable copy of enchantment display settings with pre-rendered names and descriptions for the packet display mode.
+ * Packets may be handled off the main thread, so the snapshot never reads enchantment configs after it's created:
+ * charges are read by the captured key, and levels that were not rendered on creation are displayed on the main thread only.
+ */
+public class DisplaySnapshot {
+
+    private static volatile DisplaySnapshot current;
+
+    private final Entry[] entries; // Indexed by enchantment ordinals.
+    private final int[]   chargesPercents;
+    private final boolean descriptionEnabled;
+    private final boolean descriptionBooksOnly;
+
+    private DisplaySnapshot(@NotNull Entry[] entries, int[] chargesPercents, boolean descriptionEnabled, boolean descriptionBooksOnly) {
+        this.entries = entries;
+        this.chargesPercents = chargesPercents;
+        this.descriptionEnabled = descriptionEnabled;
+        this.descriptionBooksOnly = descriptionBooksOnly;
+    }
+
+    /**
+     * Renders all registered enchantments with current settings and publishes the result. Must be called on the main thread.
+     */
+    public static void update() {
+        TreeMap<Integer, String> chargesFormat = Config.ENCHANTMENTS_CHARGES_FORMAT.get();
+        int[] chargesPercents = chargesFormat.keySet().stream().mapToInt(Integer::intValue).toArray();
+
+        List<EnchantmentData> sorted = new ArrayList<>(EnchantRegistry.getRegistered());
+        sorted.sort(Comparator.comparing((EnchantmentData data) -> data.getRarity().getWeight()).thenComparing(EnchantmentData::getName));
+
+        Entry[] entries = new Entry[EnchantRegistry.getOrdinalBound()];
+        for (int order = 0; order < sorted.size(); order++) {
+            EnchantmentData data = sorted.get(order);
+            entries[data.getOrdinal()] = createEntry(data, order, chargesFormat.values());
+        }
+
+        current = new DisplaySnapshot(entries, chargesPercents,
+            Config.ENCHANTMENTS_DISPLAY_DESCRIPTION_ENABLED.get(),
+            Config.ENCHANTMENTS_DISPLAY_DESCRIPTION_BOOKS_ONLY.get());
+    }
+
+    @Nullable
+    public static DisplaySnapshot get() {
+        return current;
+    }
+
+    @NotNull
+    private static Entry createEntry(@NotNull EnchantmentData data, int order, @NotNull Collection<String> chargesFormats) {
+        int maxLevel = Math.max(1, data.getMaxLevel());
+        NamespacedKey chargesKey = data.isChargesEnabled() ? data.getChargesKey() : null;
+
+        List<String> names = new ArrayList<>();
+        List<List<String>> chargedNames = new ArrayList<>();
+        List<List<String>> descriptions = new ArrayList<>();
+        int[] chargesMax = new int[maxLevel];
+
+        for (int level = 1; level <= maxLevel; level++) {
+            names.add(NightMessage.asLegacy(data.getNameFormatted(level, null)));
+            descriptions.add(List.copyOf(data.getDescriptionReplaced(level)));
+
+            if (chargesKey != null) {
+                // First name is for charges below the lowest format percent, amount placeholder is replaced on use.
+                List<String> levelNames = new ArrayList<>();
+                levelNames.add(NightMessage.asLegacy(data.getNameFormatted(level, "")));
+                chargesFormats.forEach(format -> levelNames.add(NightMessage.asLegacy(data.getNameFormatted(level, format))));
+                chargedNames.add(List.copyOf(levelNames));
+                chargesMax[level - 1] = data.getChargesMax(level);
+            }
+        }
+
+        return new Entry(data, data.getName(), order, chargesKey, List.copyOf(names), List.copyOf(chargedNames), List.copyOf(descriptions), chargesMax);
+    }
+
+    public boolean canHaveDescription(@NotNull ItemStack item) {
+        if (!this.descriptionEnabled) return false;
+
+        return !this.descriptionBooksOnly || EnchantUtils.isEnchantedBook(item);
+    }
+
+    /**
+     * @return Enchantments present on the item in display order, or null when called off the main thread and any of them
+     * has a level that was not rendered on creation (above max. level, given by commands or other plugins).
+     */
+    @Nullable
+    public List<Entry> getEntries(@NotNull EnchantLevels levels) {
+        List<Entry> list = new ArrayList<>(levels.size());
+        for (int ordinal = levels.nextOrdinal(0); ordinal >= 0; ordinal = levels.nextOrdinal(ordinal + 1)) {
+            Entry entry = ordinal < this.entries.length ? this.entries[ordinal] : null;
+            if (entry == null) continue;
+            if (!entry.inRange(levels.getLevel(ordinal)) && !Bukkit.isPrimaryThread()) return null;
+
+            list.add(entry);
+        }
+        list.sort(Comparator.comparingInt(Entry::order));
+        return list;
+    }
+
+    @NotNull
+    public String getName(@NotNull Entry entry, int level, @NotNull ItemMeta meta) {
+        if (!entry.inRange(level)) {
+            return LoreCache.getName(entry.data(), level, entry.data().getCharges(meta));
+        }
+
+        int charges = entry.chargesKey() == null ? -1 : PDCUtil.getInt(meta, entry.chargesKey()).orElse(0);
+        if (charges < 0) return entry.names().get(level - 1);
+
+        int percent = (int) Math.ceil((double) charges / (double) entry.chargesMax()[level - 1] * 100D);
+        int index = 0;
+        while (index < this.chargesPercents.length && this.chargesPercents[index] <= percent) {
+            index++;
+        }
+
+        return entry.chargedNames().get(level - 1).get(index).replace(GENERIC_AMOUNT, String.valueOf(charges));
+    }
+
+    @NotNull
+    public List<String> getDescription(@NotNull Entry entry, int level) {
+        if (!entry.inRange(level)) {
+            return LoreCache.getDescriptionRaw(entry.data(), level);
+        }
+        return entry.descriptions().get(level - 1);
+    }
+
+    /**
+     * Pre-rendered display of a single enchantment. Lists are indexed by level - 1.
+     */
+    public record Entry(@NotNull EnchantmentData data,
+                        @NotNull String name,
+                        int order,
+                        @Nullable NamespacedKey chargesKey,
+                        @NotNull List<String> names,
+                        @NotNull List<List<String>> chargedNames,
+                        @NotNull List<List<String>> descriptions,
+                        int[] chargesMax) {
+
+        /**
+         * @return Whether display of the level was rendered on snapshot creation.
+         */
+        public boolean inRange(int level) {
+            return level >= 1 && level <= this.names.size();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package su.nightexpress.excellentenchants.enchantment.util;
+
+import org.bukkit.enchantments.Enchantment;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+import su.nightexpress.excellentenchants.enchantment.registry.EnchantRegistry;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Compact set of custom enchantments and their levels, indexed by enchantment ordinals.
+ * Levels are stored in ordinal order, one per present enchantment.
+ */
+public class EnchantLevels {
+
+    public static final EnchantLevels EMPTY = new EnchantLevels(new long[0], new int[0], 0);
+
+    private final long[] present;
+    private final int[]  levels;
+    private final int    size;
+
+    private EnchantLevels(long[] present, int[] levels, int size) {
+        this.present = present;
+        this.levels = levels;
+        this.size = size;
+    }
+
+    public boolean contains(@NotNull EnchantmentData data) {
+        return this.contains(data.getOrdinal());
+    }
+
+    public boolean contains(int ordinal) {
+        if (ordinal < 0) return false;
+
+        int word = ordinal >> 6;
+        return word < this.present.length && (this.present[word] & (1L << ordinal)) != 0L;
+    }
+
+    public int getLevel(@NotNull EnchantmentData data) {
+        return this.getLevel(data.getOrdinal());
+    }
+
+    public int getLevel(int ordinal) {
+        return this.contains(ordinal) ? this.levels[this.rank(ordinal)] : 0;
+    }
+
+    /**
+     * @return Amount of present ordinals below the given one, which is index of its level.
+     */
+    private int rank(int ordinal) {
+        int word = ordinal >> 6;
+        int rank = 0;
+        for (int index = 0; index < word; index++) {
+            rank += Long.bitCount(this.present[index]);
+        }
+        return rank + Long.bitCount(this.present[word] & ((1L << ordinal) - 1L));
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * @return Next present ordinal starting from (inclusive) the given one, or -1 if there is no more.
+     */
+    public int nextOrdinal(int from) {
+        if (from < 0) from = 0;
+
+        int word = from >> 6;
+        if (word >= this.present.length) return -1;
+
+        long bits = this.present[word] & (-1L << from);
+        while (true) {
+            if (bits != 0L) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word >= this.present.length) return -1;
+            bits = this.present[word];
+        }
+    }
+
+    public void forEach(@NotNull ObjIntConsumer<EnchantmentData> consumer) {
+        int index = 0;
+        for (int ordinal = this.nextOrdinal(0); ordinal >= 0; ordinal = this.nextOrdinal(ordinal + 1)) {
+            EnchantmentData data = EnchantRegistry.getByOrdinal(ordinal);
+            if (data != null) {
+                consumer.accept(data, this.levels[index]);
+            }
+            index++;
+        }
+    }
+
+    @NotNull
+    public Map<EnchantmentData, Integer> toMap() {
+        Map<EnchantmentData, Integer> map = new LinkedHashMap<>();
+        this.forEach(map::put);
+        return map;
+    }
+
+    /**
+     * Collects enchantment levels into reusable buffers, so it can be kept per thread and used to count or read
+     * enchantments without allocations. Only {@link #build()} creates a new instance.
+     */
+    public static class Builder implements ObjIntConsumer<Enchantment> {
+
+        private long[] present = new long[0];
+        private int[]  levels  = new int[0];
+        private int    bound;
+        private int    size;
+
+        /**
+         * Clears collected data and adapts buffers to the current amount of registered enchantments.
+         */
+        @NotNull
+        public Builder reset() {
+            this.bound = EnchantRegistry.getOrdinalBound();
+
+            int words = (this.bound + 63) >> 6;
+            if (this.present.length < words) {
+                this.present = new long[words];
+            }
+            else Arrays.fill(this.present, 0L);
+
+            if (this.levels.length < this.bound) {
+                this.levels = new int[this.bound];
+            }
+
+            this.size = 0;
+            return this;
+        }
+
+        @Override
+        public void accept(@NotNull Enchantment enchantment, int level) {
+            EnchantmentData data = EnchantRegistry.getByEnchantment(enchantment);
+            if (data != null) {
+                this.add(data.getOrdinal(), level);
+            }
+        }
+
+        public void add(int ordinal, int level) {
+            if (ordinal < 0 || ordinal >= this.bound) return;
+
+            long bit = 1L << ordinal;
+            int word = ordinal >> 6;
+            if ((this.present[word] & bit) == 0L) {
+                this.present[word] |= bit;
+                this.size++;
+            }
+            this.levels[ordinal] = level;
+        }
+
+        public int size() {
+            return this.size;
+        }
+
+        @NotNull
+        public EnchantLevels build() {
+            if (this.size == 0) return EMPTY;
+
+            int words = (this.bound + 63) >> 6;
+            while (words > 0 && this.present[words - 1] == 0L) {
+                words--;
+            }
+
+            long[] present = Arrays.copyOf(this.present, words);
+            int[] levels = new int[this.size];
+            int index = 0;
+            for (int word = 0; word < words; word++) {
+                long bits = present[word];
+                while (bits != 0L) {
+                    levels[index++] = this.levels[(word << 6) + Long.numberOfTrailingZeros(bits)];
+                    bits &= bits - 1L;
+                }
+            }
+            return new EnchantLevels(present, levels, this.size);
+        }
+    }
+}
@@ -63,6 +63,11 @@ public class EnchantPlaceholders {
         return this;
     }
 
+    @NotNull
+    public TextTemplate compile(@NotNull String text) {
+        return TextTemplate.compile(text, this.getKeys());
+    }
+
     public void clear() {
         this.getKeys().clear();
     }
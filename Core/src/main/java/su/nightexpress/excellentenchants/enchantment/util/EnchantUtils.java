@@ -1,5 +1,6 @@
 package su.nightexpress.excellentenchants.enchantment.util;
 
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.enchantments.Enchantment;
@@ -20,9 +21,9 @@ import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
 import su.nightexpress.excellentenchants.config.Config;
 import su.nightexpress.excellentenchants.config.Keys;
 import su.nightexpress.excellentenchants.enchantment.registry.EnchantRegistry;
+import su.nightexpress.excellentenchants.nms.EnchantNMS;
 import su.nightexpress.nightcore.language.LangAssets;
 import su.nightexpress.nightcore.util.*;
-import su.nightexpress.nightcore.util.text.NightMessage;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -32,8 +33,15 @@ public class EnchantUtils {
 
     public static final EquipmentSlot[] EQUIPMENT_SLOTS = {EquipmentSlot.HAND, EquipmentSlot.OFF_HAND, EquipmentSlot.HEAD, EquipmentSlot.CHEST, EquipmentSlot.LEGS, EquipmentSlot.FEET};
     private static final Map<UUID, EnchantedProjectile> ENCHANTED_PROJECTILE_MAP = new ConcurrentHashMap<>();
+    private static final Map<UUID, EquipmentSnapshot>   EQUIPMENT_SNAPSHOT_MAP   = new ConcurrentHashMap<>();
+    private static final ThreadLocal<EnchantLevels.Builder> LEVELS_BUILDER      = ThreadLocal.withInitial(EnchantLevels.Builder::new);
 
-    private static boolean busyBreak = false;
+    private static EnchantNMS enchantNMS;
+    private static boolean    busyBreak = false;
+
+    public static void setEnchantNMS(@Nullable EnchantNMS nms) {
+        enchantNMS = nms;
+    }
 
     public static boolean isBusyByOthers() {
         return false;
@@ -72,7 +80,7 @@ public class EnchantUtils {
 
     @NotNull
     public static String getLocalized(@NotNull Enchantment enchantment) {
-        EnchantmentData enchant = EnchantRegistry.getByKey(enchantment.getKey());
+        EnchantmentData enchant = EnchantRegistry.getByEnchantment(enchantment);
         if (enchant != null) {
             return enchant.getName();
         }
@@ -144,12 +152,35 @@ public class EnchantUtils {
         return true;
     }
 
+    /**
+     * Updates item lore right away. Use it only when the item must be correct immediately (e.g. result slots or copies),
+     * otherwise see {@link #queueDisplay(ItemStack)}.
+     */
     public static boolean updateDisplay(@NotNull ItemStack item) {
+        DisplayQueue.countRequest();
+        return renderDisplay(item);
+    }
+
+    /**
+     * Schedules lore update for the next tick, repeated calls for the same item stack within a tick are merged.
+     */
+    public static void queueDisplay(@NotNull ItemStack item) {
+        if (Config.ENCHANTMENTS_DISPLAY_MODE.get() != 1) return;
+
+        DisplayQueue.queue(item);
+    }
+
+    /**
+     * Same as {@link #updateDisplay(ItemStack)}, but not counted as a new request. Used by queued display tasks.
+     */
+    public static boolean renderDisplay(@NotNull ItemStack item) {
         if (Config.ENCHANTMENTS_DISPLAY_MODE.get() != 1) return false;
 
         ItemMeta meta = item.getItemMeta();
         if (meta == null) return false;
 
+        DisplayQueue.countRender();
+
         if (!isEnchantable(item)) {
             PDCUtil.remove(item, Keys.loreSize);
             return false;
@@ -174,14 +205,14 @@ public class EnchantUtils {
         if (!meta.hasItemFlag(ItemFlag.HIDE_ENCHANTS)) {
             if (canHaveDescription(item)) {
                 for (var entry : enchantDataMap.entrySet()) {
-                    List<String> description = entry.getKey().getDescriptionReplaced(entry.getValue());
+                    List<String> description = LoreCache.getDescription(entry.getKey(), entry.getValue());
 
-                    lore.addAll(0, NightMessage.asLegacy(description));
+                    lore.addAll(0, description);
                     sizeReal += description.size();
                 }
             }
             enchantDataMap.forEach((enchant, level) -> {
-                lore.add(0, NightMessage.asLegacy(enchant.getNameFormatted(level, enchant.getCharges(meta))));
+                lore.add(0, LoreCache.getName(enchant, level, enchant.getCharges(meta)));
             });
         }
         else sizeReal = 0;
@@ -220,8 +251,28 @@ public class EnchantUtils {
         return null;
     }
 
+    /**
+     * @return Hash of the item data, read from the server item stack when possible.
+     */
+    public static int getItemHash(@NotNull ItemStack item) {
+        return enchantNMS != null ? enchantNMS.getItemHash(item) : item.hashCode();
+    }
+
+    /**
+     * @return True if both items are mirrors of the same server item stack, or equal items otherwise.
+     */
+    public static boolean isSameItem(@NotNull ItemStack item, @NotNull ItemStack other) {
+        return enchantNMS != null ? enchantNMS.isSameItem(item, other) : item.equals(other);
+    }
+
     @NotNull
     public static Map<Enchantment, Integer> getEnchantments(@NotNull ItemStack item) {
+        // Read enchantments from the server item directly when possible, avoiding ItemMeta copy.
+        if (enchantNMS != null) {
+            Map<Enchantment, Integer> enchantments = enchantNMS.getEnchantments(item);
+            if (enchantments != null) return enchantments;
+        }
+
         ItemMeta meta = item.getItemMeta();
         return meta == null ? Collections.emptyMap() : getEnchantments(meta);
     }
@@ -255,7 +306,35 @@ public class EnchantUtils {
     }
 
     public static int countCustomEnchantments(@NotNull ItemStack item) {
-        return getCustomEnchantments(item).size();
+        return readEnchantLevels(item).size();
+    }
+
+    @NotNull
+    public static EnchantLevels getEnchantLevels(@NotNull ItemStack item) {
+        return readEnchantLevels(item).build();
+    }
+
+    @NotNull
+    public static EnchantLevels getEnchantLevels(@NotNull ItemMeta meta) {
+        EnchantLevels.Builder builder = LEVELS_BUILDER.get().reset();
+        getEnchantments(meta).forEach(builder::accept);
+        return builder.build();
+    }
+
+    /**
+     * Reads custom enchantments of the item into the thread's shared builder. Server item stack is read directly when
+     * possible, without ItemMeta and enchantment map copies.
+     */
+    @NotNull
+    private static EnchantLevels.Builder readEnchantLevels(@NotNull ItemStack item) {
+        EnchantLevels.Builder builder = LEVELS_BUILDER.get().reset();
+        if (enchantNMS == null || !enchantNMS.readEnchantments(item, builder)) {
+            ItemMeta meta = item.getItemMeta();
+            if (meta != null) {
+                getEnchantments(meta).forEach(builder::accept);
+            }
+        }
+        return builder;
     }
 
     @NotNull
@@ -272,7 +351,7 @@ public class EnchantUtils {
     private static Map<EnchantmentData, Integer> toCustomEnchantments(@NotNull Map<Enchantment, Integer> enchants) {
         Map<EnchantmentData, Integer> map = new HashMap<>();
         enchants.forEach((enchantment, level) -> {
-            EnchantmentData excellent = EnchantRegistry.getByKey(enchantment.getKey());
+            EnchantmentData excellent = EnchantRegistry.getByEnchantment(enchantment);
             if (excellent != null) {
                 map.put(excellent, level);
             }
@@ -284,8 +363,8 @@ public class EnchantUtils {
     public static <T extends EnchantmentData> Map<T, Integer> getCustomEnchantments(@NotNull ItemStack item, @NotNull Class<T> clazz) {
         Map<T, Integer> map = new HashMap<>();
         getEnchantments(item).forEach((enchantment, level) -> {
-            EnchantmentData enchantmentData = EnchantRegistry.getByKey(enchantment.getKey());
-            if (enchantmentData == null || !clazz.isAssignableFrom(enchantmentData.getClass())) return;
+            EnchantmentData enchantmentData = EnchantRegistry.getByEnchantment(enchantment);
+            if (enchantmentData == null || !EnchantRegistry.isInstance(enchantmentData, clazz)) return;
 
             map.put(clazz.cast(enchantmentData), level);
         });
@@ -348,6 +427,51 @@ public class EnchantUtils {
         return map;
     }
 
+    /**
+     * @return Cached equipment snapshot of the entity, or a new one that is not stored when cache is disabled.
+     * Event listeners should resolve enchantments with {@link #getEquipped(LivingEntity, Class, EquipmentSlot...)}
+     * instead when cache is disabled.
+     */
+    @NotNull
+    public static EquipmentSnapshot getEquipmentSnapshot(@NotNull LivingEntity entity) {
+        if (!Config.CORE_EQUIPMENT_CACHE_ENABLED.get()) {
+            return EquipmentSnapshot.create(entity);
+        }
+
+        long lifetime = Config.CORE_EQUIPMENT_CACHE_LIFETIME.get();
+        EquipmentSnapshot snapshot = EQUIPMENT_SNAPSHOT_MAP.get(entity.getUniqueId());
+        if (snapshot == null || !snapshot.isValid(entity, lifetime)) {
+            snapshot = EquipmentSnapshot.create(entity);
+            EQUIPMENT_SNAPSHOT_MAP.put(entity.getUniqueId(), snapshot);
+        }
+        return snapshot;
+    }
+
+    public static void invalidateEquipment(@NotNull Entity entity) {
+        EQUIPMENT_SNAPSHOT_MAP.remove(entity.getUniqueId());
+    }
+
+    public static void invalidateCharges(@NotNull ItemStack item) {
+        if (EQUIPMENT_SNAPSHOT_MAP.isEmpty()) return;
+
+        EQUIPMENT_SNAPSHOT_MAP.values().forEach(snapshot -> snapshot.clearCharges(item));
+    }
+
+    public static void purgeEquipmentSnapshots() {
+        long lifetime = Config.CORE_EQUIPMENT_CACHE_LIFETIME.get();
+        EQUIPMENT_SNAPSHOT_MAP.entrySet().removeIf(entry -> {
+            if (entry.getValue().isExpired(lifetime)) return true;
+
+            // Entities can be removed without death event (despawn, chunk unload), so check them regardless of lifetime.
+            Entity entity = Bukkit.getEntity(entry.getKey());
+            return entity == null || !entity.isValid();
+        });
+    }
+
+    public static void clearEquipmentSnapshots() {
+        EQUIPMENT_SNAPSHOT_MAP.clear();
+    }
+
     public static void addEnchantedProjectile(@NotNull Projectile projectile, @Nullable ItemStack item) {
         EnchantedProjectile enchantedProjectile = new EnchantedProjectile(projectile, item);
         ENCHANTED_PROJECTILE_MAP.put(projectile.getUniqueId(), enchantedProjectile);
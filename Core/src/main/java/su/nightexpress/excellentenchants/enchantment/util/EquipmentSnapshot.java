@@ -0,0 +1,163 @@
+package su.nightexpress.excellentenchants.enchantment.util;
+
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+import su.nightexpress.excellentenchants.enchantment.registry.EnchantRegistry;
+
+import java.util.*;
+
+public class EquipmentSnapshot {
+
+    private final long                                          createTime;
+    private final ItemStack[]                                   items;
+    private final Map<EquipmentSlot, ItemStack>                 equipment;
+    private final Map<ItemStack, Map<EnchantmentData, Integer>> enchants;
+    private final Map<FilterKey, Map<ItemStack, ?>>             filtered;
+    private final Map<ItemStack, Map<EnchantmentData, Integer>> charges;
+
+    private EquipmentSnapshot(@Nullable ItemStack[] items, @NotNull Map<EquipmentSlot, ItemStack> equipment) {
+        this.createTime = System.currentTimeMillis();
+        this.items = items;
+        this.equipment = equipment;
+        this.enchants = new IdentityHashMap<>();
+        this.filtered = new HashMap<>();
+        this.charges = new IdentityHashMap<>();
+
+        this.equipment.values().forEach(item -> {
+            if (this.enchants.containsKey(item)) return;
+
+            this.enchants.put(item, EnchantUtils.getCustomEnchantments(item));
+        });
+    }
+
+    @NotNull
+    public static EquipmentSnapshot create(@NotNull LivingEntity entity) {
+        ItemStack[] items = new ItemStack[EnchantUtils.EQUIPMENT_SLOTS.length];
+        EntityEquipment equipment = entity.getEquipment();
+        for (int index = 0; index < items.length; index++) {
+            items[index] = getItem(equipment, EnchantUtils.EQUIPMENT_SLOTS[index]);
+        }
+
+        Map<EquipmentSlot, ItemStack> enchanted = new EnumMap<>(EquipmentSlot.class);
+        enchanted.putAll(EnchantUtils.getEnchantedEquipment(entity));
+
+        return new EquipmentSnapshot(items, enchanted);
+    }
+
+    @Nullable
+    private static ItemStack getItem(@Nullable EntityEquipment equipment, @NotNull EquipmentSlot slot) {
+        ItemStack item = equipment == null ? null : equipment.getItem(slot);
+        return item == null || item.getType().isAir() ? null : item;
+    }
+
+    /**
+     * Snapshot is valid while every slot holds the same server item stack as on creation, so cached mirrors are still
+     * equipped. In place item changes are not detected here, equipment listeners invalidate snapshots on such actions.
+     */
+    public boolean isValid(@NotNull LivingEntity entity, long lifetime) {
+        if (this.isExpired(lifetime)) return false;
+
+        EntityEquipment equipment = entity.getEquipment();
+        for (int index = 0; index < this.items.length; index++) {
+            ItemStack item = getItem(equipment, EnchantUtils.EQUIPMENT_SLOTS[index]);
+            ItemStack has = this.items[index];
+            if (item == null || has == null) {
+                if (item != has) return false;
+                continue;
+            }
+
+            if (!EnchantUtils.isSameItem(item, has)) return false;
+        }
+        return true;
+    }
+
+    public boolean isExpired(long lifetime) {
+        return lifetime > 0L && System.currentTimeMillis() - this.createTime >= lifetime;
+    }
+
+    public long getCreateTime() {
+        return createTime;
+    }
+
+    @NotNull
+    public Map<EquipmentSlot, ItemStack> getEquipment() {
+        return Collections.unmodifiableMap(this.equipment);
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <T extends EnchantmentData> Map<ItemStack, Map<T, Integer>> getEnchants(@NotNull Class<T> clazz, @NotNull EquipmentSlot... slots) {
+        FilterKey key = new FilterKey(clazz, toMask(slots));
+
+        Map<ItemStack, ?> cached = this.filtered.get(key);
+        if (cached == null) {
+            cached = this.filterEnchants(clazz, slots);
+            this.filtered.put(key, cached);
+        }
+        return (Map<ItemStack, Map<T, Integer>>) cached;
+    }
+
+    @NotNull
+    private <T extends EnchantmentData> Map<ItemStack, Map<T, Integer>> filterEnchants(@NotNull Class<T> clazz, @NotNull EquipmentSlot... slots) {
+        Map<ItemStack, Map<T, Integer>> map = new IdentityHashMap<>();
+
+        for (EquipmentSlot slot : slots) {
+            ItemStack item = this.equipment.get(slot);
+            if (item == null || map.containsKey(item)) continue;
+
+            // Equal items in different slots are treated as one, the same way as HashMap keys did before.
+            if (map.keySet().stream().anyMatch(has -> has.getType() == item.getType() && has.equals(item))) continue;
+
+            Map<T, Integer> enchants = new LinkedHashMap<>();
+            this.enchants.getOrDefault(item, Collections.emptyMap()).forEach((data, level) -> {
+                if (EnchantRegistry.isInstance(data, clazz)) {
+                    enchants.put(clazz.cast(data), level);
+                }
+            });
+            map.put(item, enchants);
+        }
+
+        return map;
+    }
+
+    public boolean contains(@NotNull ItemStack item) {
+        return this.enchants.containsKey(item);
+    }
+
+    public int getCharges(@NotNull ItemStack item, @NotNull EnchantmentData data) {
+        if (!data.isChargesEnabled()) return -1;
+        if (!this.enchants.containsKey(item)) return data.getCharges(item);
+
+        return this.charges.computeIfAbsent(item, k -> new HashMap<>()).computeIfAbsent(data, k -> data.getCharges(item));
+    }
+
+    /**
+     * Drops cached charges of the given item, if it's a part of this snapshot. Called whenever item charges are written.
+     */
+    public void clearCharges(@NotNull ItemStack item) {
+        if (this.charges.isEmpty()) return;
+
+        this.charges.keySet().removeIf(has -> has == item || EnchantUtils.isSameItem(has, item));
+    }
+
+    public boolean isOutOfCharges(@NotNull ItemStack item, @NotNull EnchantmentData data) {
+        return this.getCharges(item, data) == 0;
+    }
+
+    private static int toMask(@NotNull EquipmentSlot... slots) {
+        int mask = 0;
+        for (EquipmentSlot slot : slots) {
+            mask |= 1 << slot.ordinal();
+        }
+        return mask;
+    }
+
+    private record FilterKey(@NotNull Class<?> type, int slots) {
+
+    }
+}
@@ -0,0 +1,88 @@
+package su.nightexpress.excellentenchants.enchantment.util;
+
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+import su.nightexpress.excellentenchants.config.Config;
+import su.nightexpress.nightcore.util.text.NightMessage;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of rendered enchantment name and description lines.
+ * Rendered text depends only on enchantment settings, level and displayed charges, so it's safe to reuse until reload.
+ */
+public class LoreCache {
+
+    private static final Map<Key, Object> CACHE = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+            return this.size() > Config.CORE_LORE_CACHE_SIZE.get();
+        }
+    });
+
+    /**
+     * @return Legacy formatted enchantment name line.
+     */
+    @NotNull
+    public static String getName(@NotNull EnchantmentData data, int level, int charges) {
+        String chargesFormat = data.isChargesEnabled() && charges >= 0 ? data.getChargesFormatted(level, charges) : null;
+        Key key = new Key(data, level, Part.NAME, chargesFormat);
+
+        return (String) get(key, () -> NightMessage.asLegacy(data.getNameFormatted(level, charges)));
+    }
+
+    /**
+     * @return Legacy formatted enchantment description lines.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static List<String> getDescription(@NotNull EnchantmentData data, int level) {
+        Key key = new Key(data, level, Part.DESCRIPTION, null);
+
+        return (List<String>) get(key, () -> List.copyOf(NightMessage.asLegacy(data.getDescriptionReplaced(level))));
+    }
+
+    /**
+     * @return Enchantment description lines with replaced placeholders, but not formatted.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static List<String> getDescriptionRaw(@NotNull EnchantmentData data, int level) {
+        Key key = new Key(data, level, Part.DESCRIPTION_RAW, null);
+
+        return (List<String>) get(key, () -> List.copyOf(data.getDescriptionReplaced(level)));
+    }
+
+    @NotNull
+    private static Object get(@NotNull Key key, @NotNull Supplier<Object> renderer) {
+        if (Config.CORE_LORE_CACHE_SIZE.get() <= 0) return renderer.get();
+
+        Object value = CACHE.get(key);
+        if (value == null) {
+            // Render outside of the lock, parsing is the expensive part.
+            value = renderer.get();
+            CACHE.put(key, value);
+        }
+        return value;
+    }
+
+    public static int size() {
+        return CACHE.size();
+    }
+
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    private enum Part {
+        NAME, DESCRIPTION, DESCRIPTION_RAW
+    }
+
+    private record Key(@NotNull EnchantmentData data, int level, @NotNull Part part, String charges) {
+
+    }
+}
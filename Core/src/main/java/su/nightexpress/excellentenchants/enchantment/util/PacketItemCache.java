@@ -0,0 +1,62 @@
+package su.nightexpress.excellentenchants.enchantment.util;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.config.Config;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded LRU cache of item stacks rewritten for the packet display mode.
+ * Items are looked up by a cheap fingerprint and then compared with the source item to rule out hash collisions.
+ */
+public class PacketItemCache {
+
+    private static final Map<Key, Entry> CACHE = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return this.size() > Config.CORE_PACKET_CACHE_SIZE.get();
+        }
+    });
+
+    @NotNull
+    public static ItemStack get(@NotNull ItemStack item, boolean isCreative, @NotNull UnaryOperator<ItemStack> renderer) {
+        if (Config.CORE_PACKET_CACHE_SIZE.get() <= 0) return renderer.apply(item);
+
+        // Items rewritten from outdated display settings (e.g. while async packets were handled during reload) are ignored.
+        DisplaySnapshot snapshot = DisplaySnapshot.get();
+        Key key = new Key(item.getType(), item.getAmount(), EnchantUtils.getItemHash(item), isCreative);
+        Entry entry = CACHE.get(key);
+        if (entry != null && entry.snapshot() == snapshot && entry.source().isSimilar(item)) {
+            return entry.result() == null ? item : entry.result();
+        }
+
+        ItemStack result = renderer.apply(item);
+        CACHE.put(key, new Entry(item, result == item ? null : result, snapshot));
+        return result;
+    }
+
+    public static int size() {
+        return CACHE.size();
+    }
+
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    private record Key(@NotNull Material type, int amount, int hash, boolean creative) {
+
+    }
+
+    /**
+     * @param result Rewritten item, or null if source item is sent as is.
+     * @param snapshot Display settings used to rewrite the item.
+     */
+    private record Entry(@NotNull ItemStack source, ItemStack result, DisplaySnapshot snapshot) {
+
+    }
+}
@@ -0,0 +1,96 @@
+package su.nightexpress.excellentenchants.enchantment.util;
+
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.nightcore.util.Pair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Text with placeholders split into literal and placeholder segments once, so it can be rendered for any level
+ * without scanning the text for every placeholder key.
+ */
+public class TextTemplate {
+
+    private final String[]                    literals; // Always one more than segment keys.
+    private final int[]                       segments; // Key index of each placeholder segment.
+    private final String[]                    keys;
+    private final Function<Integer, String>[] replacers;
+
+    private TextTemplate(@NotNull String[] literals, int[] segments, @NotNull String[] keys, @NotNull Function<Integer, String>[] replacers) {
+        this.literals = literals;
+        this.segments = segments;
+        this.keys = keys;
+        this.replacers = replacers;
+    }
+
+    /**
+     * Keys are applied in the given order, the same way as sequential replacement does: when several keys match at
+     * the same position, the first one wins, and a placeholder value is also replaced by the keys that come after its own.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static TextTemplate compile(@NotNull String text, @NotNull List<Pair<String, Function<Integer, String>>> keys) {
+        String[] names = new String[keys.size()];
+        Function<Integer, String>[] replacers = new Function[keys.size()];
+        for (int index = 0; index < names.length; index++) {
+            names[index] = keys.get(index).getFirst();
+            replacers[index] = keys.get(index).getSecond();
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> segments = new ArrayList<>();
+
+        int start = 0;
+        int index = 0;
+        while (index < text.length()) {
+            int match = -1;
+            for (int keyIndex = 0; keyIndex < names.length; keyIndex++) {
+                String key = names[keyIndex];
+                if (!key.isEmpty() && text.startsWith(key, index)) {
+                    match = keyIndex;
+                    break;
+                }
+            }
+
+            if (match < 0) {
+                index++;
+                continue;
+            }
+
+            literals.add(text.substring(start, index));
+            segments.add(match);
+            index += names[match].length();
+            start = index;
+        }
+        literals.add(text.substring(start));
+
+        return new TextTemplate(literals.toArray(new String[0]), segments.stream().mapToInt(Integer::intValue).toArray(), names, replacers);
+    }
+
+    @NotNull
+    public String render(int level) {
+        if (this.segments.length == 0) return this.literals[0];
+
+        StringBuilder builder = new StringBuilder();
+        for (int index = 0; index < this.segments.length; index++) {
+            builder.append(this.literals[index]).append(this.replace(this.segments[index], level));
+        }
+        return builder.append(this.literals[this.segments.length]).toString();
+    }
+
+    @NotNull
+    private String replace(int keyIndex, int level) {
+        String value = this.replacers[keyIndex].apply(level);
+
+        // Values may contain other placeholders (e.g. description with trigger chance), expand them as before.
+        for (int next = keyIndex + 1; next < this.keys.length; next++) {
+            String key = this.keys[next];
+            if (!key.isEmpty() && value.contains(key)) {
+                value = value.replace(key, this.replacers[next].apply(level));
+            }
+        }
+        return value;
+    }
+}
@@ -12,18 +12,21 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import su.nightexpress.excellentenchants.EnchantsPlugin;
-import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
+import su.nightexpress.excellentenchants.config.Config;
+import su.nightexpress.excellentenchants.enchantment.util.DisplaySnapshot;
+import su.nightexpress.excellentenchants.enchantment.util.EnchantLevels;
 import su.nightexpress.excellentenchants.enchantment.util.EnchantUtils;
-import su.nightexpress.nightcore.util.text.NightMessage;
+import su.nightexpress.excellentenchants.enchantment.util.PacketItemCache;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.List;
 
 public class ProtocolHook {
 
     private static boolean isRegistered = false;
 
     public static void setup(@NotNull EnchantsPlugin plugin) {
+        DisplaySnapshot.update();
         if (isRegistered) return;
 
         ProtocolManager manager = ProtocolLibrary.getProtocolManager();
@@ -36,7 +39,9 @@ public class ProtocolHook {
             }
         });
 
-        manager.addPacketListener(new PacketAdapter(plugin, PacketType.Play.Server.SET_SLOT) {
+        int workers = Config.CORE_PACKET_ASYNC_WORKERS.get();
+
+        registerItemListener(manager, workers, new PacketAdapter(plugin, PacketType.Play.Server.SET_SLOT) {
             @Override
             public void onPacketSending(PacketEvent event) {
                 PacketContainer packet = event.getPacket();
@@ -47,7 +52,7 @@ public class ProtocolHook {
             }
         });
 
-        manager.addPacketListener(new PacketAdapter(plugin, PacketType.Play.Server.WINDOW_ITEMS) {
+        registerItemListener(manager, workers, new PacketAdapter(plugin, PacketType.Play.Server.WINDOW_ITEMS) {
             @Override
             public void onPacketSending(PacketEvent event) {
                 PacketContainer packet = event.getPacket();
@@ -60,7 +65,7 @@ public class ProtocolHook {
             }
         });
 
-        manager.addPacketListener(new PacketAdapter(plugin, PacketType.Play.Server.OPEN_WINDOW_MERCHANT) {
+        registerItemListener(manager, workers, new PacketAdapter(plugin, PacketType.Play.Server.OPEN_WINDOW_MERCHANT) {
             @Override
             public void onPacketSending(PacketEvent event) {
                 PacketContainer packet = event.getPacket();
@@ -79,41 +84,62 @@ public class ProtocolHook {
             }
         });
 
+        if (workers > 0) {
+            plugin.info("Packet items are rewritten asynchronously by " + workers + " worker(s).");
+        }
+
         isRegistered = true;
     }
 
+    private static void registerItemListener(@NotNull ProtocolManager manager, int workers, @NotNull PacketAdapter adapter) {
+        if (workers > 0) {
+            manager.getAsynchronousManager().registerAsyncHandler(adapter).start(workers);
+        }
+        else manager.addPacketListener(adapter);
+    }
+
     @Nullable
     public static ItemStack update(@Nullable ItemStack item, boolean isCreative) {
         if (item == null || item.getType().isAir()) return item;
 
+        // Fast check on the server item stack, before any copies.
+        if (EnchantUtils.getEnchantLevels(item).isEmpty()) return item;
+
+        return PacketItemCache.get(item, isCreative, source -> rewrite(source, isCreative));
+    }
+
+    @NotNull
+    private static ItemStack rewrite(@NotNull ItemStack item, boolean isCreative) {
+        DisplaySnapshot snapshot = DisplaySnapshot.get();
+        if (snapshot == null) return item;
+
         ItemStack copy = new ItemStack(item);
         ItemMeta meta = copy.getItemMeta();
         if (meta == null || meta.hasItemFlag(ItemFlag.HIDE_ENCHANTS)) return item;
 
-        Map<EnchantmentData, Integer> enchants = EnchantUtils.getCustomEnchantments(meta)
-            .entrySet().stream()
-            .sorted(Comparator.comparing((Map.Entry<EnchantmentData, Integer> entry) -> entry.getKey().getRarity().getWeight())
-                .thenComparing(entry -> entry.getKey().getName()))
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (old,nev) -> nev, LinkedHashMap::new));
-        if (enchants.isEmpty()) return item;
+        EnchantLevels levels = EnchantUtils.getEnchantLevels(meta);
+        if (levels.isEmpty()) return item;
+
+        // Async workers can not render levels above the snapshot range without reading configs, such items are sent as is.
+        List<DisplaySnapshot.Entry> enchants = snapshot.getEntries(levels);
+        if (enchants == null || enchants.isEmpty()) return item;
 
         List<String> lore = meta.getLore() == null ? new ArrayList<>() : meta.getLore();
         if (!lore.isEmpty()) {
-            enchants.keySet().forEach(enchant -> lore.removeIf(line -> line.contains(enchant.getName())));
+            enchants.forEach(enchant -> lore.removeIf(line -> line.contains(enchant.name())));
             if (isCreative) {
-                enchants.forEach((enchant, level) -> {
-                    lore.removeAll(enchant.getDescriptionReplaced(level));
+                enchants.forEach(enchant -> {
+                    lore.removeAll(snapshot.getDescription(enchant, levels.getLevel(enchant.data())));
                 });
             }
         }
-        if (EnchantUtils.canHaveDescription(item) && !isCreative) {
-            enchants.forEach((enchant, level) -> {
-                lore.addAll(0, enchant.getDescriptionReplaced(level));
+        if (snapshot.canHaveDescription(item) && !isCreative) {
+            enchants.forEach(enchant -> {
+                lore.addAll(0, snapshot.getDescription(enchant, levels.getLevel(enchant.data())));
             });
         }
-        enchants.forEach((enchant, level) -> {
-            int charges = enchant.getCharges(meta);
-            lore.add(0, NightMessage.asLegacy(enchant.getNameFormatted(level, charges)));
+        enchants.forEach(enchant -> {
+            lore.add(0, snapshot.getName(enchant, levels.getLevel(enchant.data()), meta));
         });
 
         meta.setLore(lore);
@@ -1,7 +1,11 @@
 package su.nightexpress.excellentenchants;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
+import net.minecraft.core.component.DataComponentType;
+import net.minecraft.core.component.DataComponents;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.protocol.game.ClientboundAnimatePacket;
 import net.minecraft.resources.ResourceLocation;
@@ -15,7 +19,9 @@ import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.projectile.FishingHook;
 import net.minecraft.world.inventory.EnchantmentMenu;
 import net.minecraft.world.item.BlockItem;
+import net.minecraft.world.item.Items;
 import net.minecraft.world.item.enchantment.EnchantmentInstance;
+import net.minecraft.world.item.enchantment.ItemEnchantments;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.LiquidBlock;
@@ -44,14 +50,18 @@ import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
 import su.nightexpress.excellentenchants.nms.EnchantNMS;
 import su.nightexpress.nightcore.util.BukkitThing;
 import su.nightexpress.nightcore.util.Reflex;
 import su.nightexpress.nightcore.util.random.Rnd;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ObjIntConsumer;
 
 public class Internal1_20_6 implements EnchantNMS {
 
@@ -115,6 +125,92 @@ public class Internal1_20_6 implements EnchantNMS {
         return map;
     }
 
+    private static volatile Field craftItemHandle = getItemHandleField();
+
+    private final Map<net.minecraft.world.item.enchantment.Enchantment, Enchantment> bukkitEnchants = new ConcurrentHashMap<>();
+
+    @Nullable
+    private static Field getItemHandleField() {
+        try {
+            Field field = CraftItemStack.class.getDeclaredField("handle");
+            field.setAccessible(true);
+            return field;
+        }
+        catch (ReflectiveOperationException | RuntimeException exception) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static net.minecraft.world.item.ItemStack getHandle(@NotNull ItemStack item) {
+        Field field = craftItemHandle;
+        if (field == null || !(item instanceof CraftItemStack craftItem)) return null;
+
+        try {
+            return (net.minecraft.world.item.ItemStack) field.get(craftItem);
+        }
+        catch (IllegalAccessException exception) {
+            craftItemHandle = null; // Do not retry, callers fall back to ItemMeta.
+            return null;
+        }
+    }
+
+    @Override
+    public boolean canReadItems() {
+        return craftItemHandle != null;
+    }
+
+    @Override
+    public int getEnchantmentId(@NotNull Enchantment enchantment) {
+        net.minecraft.world.item.enchantment.Enchantment handle = BuiltInRegistries.ENCHANTMENT.get(CraftNamespacedKey.toMinecraft(enchantment.getKey()));
+        return handle == null ? -1 : BuiltInRegistries.ENCHANTMENT.getId(handle);
+    }
+
+    @Override
+    public int getItemHash(@NotNull ItemStack item) {
+        net.minecraft.world.item.ItemStack handle = getHandle(item);
+        if (handle == null) return item.hashCode();
+
+        return handle.getComponentsPatch().hashCode();
+    }
+
+    @Override
+    public boolean isSameItem(@NotNull ItemStack item, @NotNull ItemStack other) {
+        net.minecraft.world.item.ItemStack handle = getHandle(item);
+        net.minecraft.world.item.ItemStack otherHandle = getHandle(other);
+        if (handle == null || otherHandle == null) return item.equals(other);
+
+        return handle == otherHandle;
+    }
+
+    @Override
+    @Nullable
+    public Map<Enchantment, Integer> getEnchantments(@NotNull ItemStack item) {
+        Map<Enchantment, Integer> enchantments = new HashMap<>();
+        return this.readEnchantments(item, enchantments::put) ? enchantments : null;
+    }
+
+    @Override
+    public boolean readEnchantments(@NotNull ItemStack item, @NotNull ObjIntConsumer<Enchantment> consumer) {
+        if (!(item instanceof CraftItemStack)) return false;
+
+        net.minecraft.world.item.ItemStack handle = getHandle(item);
+        if (handle == null) return false;
+        if (handle.isEmpty()) return true;
+
+        DataComponentType<ItemEnchantments> type = handle.is(Items.ENCHANTED_BOOK) ? DataComponents.STORED_ENCHANTMENTS : DataComponents.ENCHANTMENTS;
+        ItemEnchantments itemEnchantments = handle.getOrDefault(type, ItemEnchantments.EMPTY);
+        if (itemEnchantments.isEmpty()) return true;
+
+        for (Object2IntMap.Entry<Holder<net.minecraft.world.item.enchantment.Enchantment>> entry : itemEnchantments.entrySet()) {
+            Enchantment bukkitEnchant = this.bukkitEnchants.computeIfAbsent(entry.getKey().value(), CraftEnchantment::minecraftToBukkit);
+            if (bukkitEnchant != null) {
+                consumer.accept(bukkitEnchant, entry.getIntValue());
+            }
+        }
+        return true;
+    }
+
     @Override
     public void sendAttackPacket(@NotNull Player player, int id) {
         CraftPlayer craftPlayer = (CraftPlayer) player;
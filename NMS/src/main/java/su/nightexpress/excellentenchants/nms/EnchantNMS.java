@@ -12,10 +12,12 @@ import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.function.ObjIntConsumer;
 
 public interface EnchantNMS {
 
@@ -29,6 +31,39 @@ public interface EnchantNMS {
 
     void retrieveHook(@NotNull FishHook hook, @NotNull ItemStack item, @NotNull EquipmentSlot slot);
 
+    /**
+     * @return False if server item stacks can not be accessed, in this case item data is read through ItemMeta.
+     */
+    boolean canReadItems();
+
+    /**
+     * Reads item enchantments directly from the server item stack, without creating ItemMeta.
+     * @return Enchantments of the item, or null if item is not backed by a server item stack.
+     */
+    @Nullable Map<Enchantment, Integer> getEnchantments(@NotNull ItemStack item);
+
+    /**
+     * Passes item enchantments and their levels to the consumer, reading them directly from the server item stack.
+     * @return False if item is not backed by a server item stack, consumer is not called in this case.
+     */
+    boolean readEnchantments(@NotNull ItemStack item, @NotNull ObjIntConsumer<Enchantment> consumer);
+
+    /**
+     * Hash of the item data (tags or components) computed on the server item stack, without creating ItemMeta.
+     */
+    int getItemHash(@NotNull ItemStack item);
+
+    /**
+     * @return True if both items are backed by the same server item stack. Items that are not backed by server stacks
+     * are compared by equality.
+     */
+    boolean isSameItem(@NotNull ItemStack item, @NotNull ItemStack other);
+
+    /**
+     * @return Id of the enchantment in the server registry, or -1 if it is not registered.
+     */
+    int getEnchantmentId(@NotNull Enchantment enchantment);
+
     @NotNull Map<Integer, Map<Enchantment, Integer>> getEnchantLists(@NotNull Inventory inventory, @NotNull ItemStack bukkitItem);
 
     @NotNull Material getItemBlockVariant(@NotNull Material material);
@@ -11,6 +11,7 @@ import org.bukkit.craftbukkit.v1_20_R1.CraftEquipmentSlot;
 import org.bukkit.craftbukkit.v1_20_R1.inventory.CraftItemStack;
 import org.bukkit.craftbukkit.v1_20_R1.util.CraftNamespacedKey;
 import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.api.ConflictMatrix;
 import su.nightexpress.excellentenchants.api.EnchantingBridge;
 import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
 import su.nightexpress.excellentenchants.api.enchantment.distribution.VanillaOptions;
@@ -47,6 +48,13 @@ public class CustomEnchantment extends Enchantment {
 
     @Override
     protected boolean checkCompatibility(Enchantment other) {
+        ConflictMatrix matrix = ConflictMatrix.get();
+        if (matrix != null) {
+            int id = BuiltInRegistries.ENCHANTMENT.getId(this);
+            int otherId = BuiltInRegistries.ENCHANTMENT.getId(other);
+            if (matrix.contains(id) && matrix.contains(otherId)) return !matrix.isConflicting(id, otherId);
+        }
+
         ResourceLocation location = BuiltInRegistries.ENCHANTMENT.getKey(other);
         if (location == null) return false;
 
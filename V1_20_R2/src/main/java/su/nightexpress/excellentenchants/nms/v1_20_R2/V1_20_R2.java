@@ -3,6 +3,8 @@ package su.nightexpress.excellentenchants.nms.v1_20_R2;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Registry;
 import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
 import net.minecraft.network.protocol.game.ClientboundAnimatePacket;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
@@ -16,6 +18,9 @@ import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.projectile.FishingHook;
 import net.minecraft.world.inventory.EnchantmentMenu;
 import net.minecraft.world.item.BlockItem;
+import net.minecraft.world.item.EnchantedBookItem;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.enchantment.EnchantmentHelper;
 import net.minecraft.world.item.enchantment.EnchantmentInstance;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Blocks;
@@ -45,14 +50,18 @@ import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import su.nightexpress.excellentenchants.api.enchantment.EnchantmentData;
 import su.nightexpress.excellentenchants.nms.EnchantNMS;
 import su.nightexpress.nightcore.util.BukkitThing;
 import su.nightexpress.nightcore.util.Reflex;
 import su.nightexpress.nightcore.util.random.Rnd;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ObjIntConsumer;
 
 public class V1_20_R2 implements EnchantNMS {
 
@@ -120,6 +129,100 @@ public class V1_20_R2 implements EnchantNMS {
         return map;
     }
 
+    private static volatile Field craftItemHandle = getItemHandleField();
+
+    private final Map<net.minecraft.world.item.enchantment.Enchantment, Enchantment> bukkitEnchants = new ConcurrentHashMap<>();
+
+    @Nullable
+    private static Field getItemHandleField() {
+        try {
+            Field field = CraftItemStack.class.getDeclaredField("handle");
+            field.setAccessible(true);
+            return field;
+        }
+        catch (ReflectiveOperationException | RuntimeException exception) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static net.minecraft.world.item.ItemStack getHandle(@NotNull ItemStack item) {
+        Field field = craftItemHandle;
+        if (field == null || !(item instanceof CraftItemStack craftItem)) return null;
+
+        try {
+            return (net.minecraft.world.item.ItemStack) field.get(craftItem);
+        }
+        catch (IllegalAccessException exception) {
+            craftItemHandle = null; // Do not retry, callers fall back to ItemMeta.
+            return null;
+        }
+    }
+
+    @Override
+    public boolean canReadItems() {
+        return craftItemHandle != null;
+    }
+
+    @Override
+    public int getEnchantmentId(@NotNull Enchantment enchantment) {
+        net.minecraft.world.item.enchantment.Enchantment handle = BuiltInRegistries.ENCHANTMENT.get(CraftNamespacedKey.toMinecraft(enchantment.getKey()));
+        return handle == null ? -1 : BuiltInRegistries.ENCHANTMENT.getId(handle);
+    }
+
+    @Override
+    public int getItemHash(@NotNull ItemStack item) {
+        net.minecraft.world.item.ItemStack handle = getHandle(item);
+        if (handle == null) return item.hashCode();
+
+        return Objects.hashCode(handle.getTag());
+    }
+
+    @Override
+    public boolean isSameItem(@NotNull ItemStack item, @NotNull ItemStack other) {
+        net.minecraft.world.item.ItemStack handle = getHandle(item);
+        net.minecraft.world.item.ItemStack otherHandle = getHandle(other);
+        if (handle == null || otherHandle == null) return item.equals(other);
+
+        return handle == otherHandle;
+    }
+
+    @Override
+    @Nullable
+    public Map<Enchantment, Integer> getEnchantments(@NotNull ItemStack item) {
+        Map<Enchantment, Integer> enchantments = new HashMap<>();
+        return this.readEnchantments(item, enchantments::put) ? enchantments : null;
+    }
+
+    @Override
+    public boolean readEnchantments(@NotNull ItemStack item, @NotNull ObjIntConsumer<Enchantment> consumer) {
+        if (!(item instanceof CraftItemStack)) return false;
+
+        net.minecraft.world.item.ItemStack handle = getHandle(item);
+        if (handle == null) return false;
+        if (handle.isEmpty()) return true;
+
+        ListTag tags = handle.is(Items.ENCHANTED_BOOK) ? EnchantedBookItem.getEnchantments(handle) : handle.getEnchantmentTags();
+        for (int index = 0; index < tags.size(); index++) {
+            CompoundTag tag = tags.getCompound(index);
+            ResourceLocation id = EnchantmentHelper.getEnchantmentId(tag);
+            net.minecraft.world.item.enchantment.Enchantment enchantment = id == null ? null : BuiltInRegistries.ENCHANTMENT.get(id);
+            if (enchantment == null) continue;
+
+            Enchantment bukkitEnchant = this.bukkitEnchants.computeIfAbsent(enchantment, this::toBukkit);
+            if (bukkitEnchant != null) {
+                consumer.accept(bukkitEnchant, EnchantmentHelper.getEnchantmentLevel(tag));
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private Enchantment toBukkit(@NotNull net.minecraft.world.item.enchantment.Enchantment enchantment) {
+        ResourceLocation location = BuiltInRegistries.ENCHANTMENT.getKey(enchantment);
+        return location == null ? null : Enchantment.getByKey(CraftNamespacedKey.fromMinecraft(location));
+    }
+
     @Override
     public void sendAttackPacket(@NotNull Player player, int id) {
         CraftPlayer craftPlayer = (CraftPlayer) player;